@@ -0,0 +1,432 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Scripted load scenarios against a running backend, written out as a JSON report.
+ *
+ *   java perf/LoadDriver.java --base http://localhost:8080 --viewers 50 --duration 60 --out perf/report.json
+ *
+ * Scenarios (--scenarios, comma separated, run in this order):
+ *   viewers  N globe clients polling /api/satellites, each keeping its own ETag like a browser cache
+ *   warnings M clients polling /api/warnings
+ *   sync     the viewers running while /api/sync is called back to back
+ *
+ * Each scenario reports per-endpoint request counts by outcome, throughput and p50/p90/p99/max latency.
+ * serverErrors counts every 5xx; unavailable503 is the load-shedding share of it. Anything else lands
+ * in otherStatuses, so the outcome counts always add up to requests.
+ * Keys are written in a fixed order, one metric per line, so reports from two builds can be diffed directly.
+ * The run label and timestamp sit in a trailing meta block, away from the numbers.
+ */
+public class LoadDriver {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final String base;
+    private final Map<String, String> opts;
+    private String token;
+
+    LoadDriver(String base, Map<String, String> opts) {
+        this.base = base;
+        this.opts = opts;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        String base = opts.getOrDefault("base", "http://localhost:8080");
+        LoadDriver driver = new LoadDriver(base, opts);
+
+        driver.waitForHealth(Duration.ofSeconds(Long.parseLong(opts.getOrDefault("startup-timeout", "180"))));
+        driver.authenticate();
+        driver.primeCatalog();
+
+        Map<String, Scenario> results = new LinkedHashMap<>();
+        for (String name : opts.getOrDefault("scenarios", "viewers,warnings,sync").split(",")) {
+            name = name.trim();
+            System.out.println("Running scenario: " + name);
+            Scenario scenario = switch (name) {
+                case "viewers" -> driver.runViewers(false);
+                case "warnings" -> driver.runWarnings();
+                case "sync" -> driver.runViewers(true);
+                default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+            };
+            results.put(name, scenario);
+            System.out.println(scenario.summary());
+        }
+
+        String report = driver.toJson(results);
+        Path out = Path.of(opts.getOrDefault("out", "perf/report.json"));
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        Files.writeString(out, report);
+        System.out.println("Report written to " + out.toAbsolutePath());
+    }
+
+    // ------------------------------------------------------------ setup
+
+    private void waitForHealth(Duration timeout) throws InterruptedException {
+        Instant deadline = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                if (send(get("/api/health/orekit")).statusCode() == 200) return;
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Backend at " + base + " not ready after " + timeout.toSeconds() + "s");
+    }
+
+    // Registers a throwaway account; the perf database is recreated on every run
+    private void authenticate() throws IOException, InterruptedException {
+        String email = "perf-" + System.currentTimeMillis() + "@example.com";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"perf-password\"}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(base + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Registration failed: " + response.statusCode() + " " + response.body());
+        }
+        token = matcher.group(1);
+    }
+
+    // First sync loads the stub catalog; it is timed but kept out of the scenario numbers
+    private void primeCatalog() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response = send(authed("/api/sync"));
+        // Scenarios against an empty catalog would measure nothing useful
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Initial sync failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        System.out.println("Initial sync: HTTP " + response.statusCode() + " in "
+                + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    // ------------------------------------------------------------ scenarios
+
+    private Scenario runViewers(boolean withSync) throws InterruptedException {
+        int viewers = intOpt("viewers", 50);
+        long thinkMs = longOpt("viewer-interval-ms", 1000);
+        Scenario scenario = new Scenario(withSync ? "sync" : "viewers");
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Runnable> clients = new ArrayList<>();
+        for (int v = 0; v < viewers; v++) {
+            clients.add(() -> {
+                String etag = null;
+                while (running.get()) {
+                    HttpRequest.Builder request = authedBuilder("/api/satellites");
+                    if (etag != null) request.header("If-None-Match", etag);
+                    HttpResponse<String> response = scenario.record("/api/satellites", () -> send(request.build()));
+                    if (response != null && response.statusCode() == 200) {
+                        etag = response.headers().firstValue("ETag").orElse(null);
+                    }
+                    sleep(thinkMs);
+                }
+            });
+        }
+        if (withSync) {
+            long syncPauseMs = longOpt("sync-interval-ms", 0);
+            clients.add(() -> {
+                while (running.get()) {
+                    scenario.record("/api/sync", () -> send(authed("/api/sync")));
+                    sleep(syncPauseMs);
+                }
+            });
+        }
+
+        runFor(scenario, clients, running);
+        return scenario;
+    }
+
+    private Scenario runWarnings() throws InterruptedException {
+        int clientsCount = intOpt("warning-clients", 4);
+        long thinkMs = longOpt("warning-interval-ms", 1000);
+        Scenario scenario = new Scenario("warnings");
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Runnable> clients = new ArrayList<>();
+        for (int c = 0; c < clientsCount; c++) {
+            clients.add(() -> {
+                while (running.get()) {
+                    scenario.record("/api/warnings", () -> send(authed("/api/warnings")));
+                    sleep(thinkMs);
+                }
+            });
+        }
+
+        runFor(scenario, clients, running);
+        return scenario;
+    }
+
+    // Warm-up requests run the same load but are discarded before the measured window starts
+    private void runFor(Scenario scenario, List<Runnable> clients, AtomicBoolean running) throws InterruptedException {
+        long warmupSeconds = longOpt("warmup", 10);
+        long durationSeconds = longOpt("duration", 60);
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients.size());
+        CountDownLatch finished = new CountDownLatch(clients.size());
+        for (Runnable client : clients) {
+            pool.execute(() -> {
+                try {
+                    client.run();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(warmupSeconds * 1000);
+        scenario.start();
+        Thread.sleep(durationSeconds * 1000);
+        scenario.stop();
+
+        running.set(false);
+        finished.await();
+        pool.shutdown();
+    }
+
+    // ------------------------------------------------------------ http
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(10)).GET().build();
+    }
+
+    private HttpRequest authed(String path) {
+        return authedBuilder(path).build();
+    }
+
+    private HttpRequest.Builder authedBuilder(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+                .timeout(Duration.ofSeconds(longOpt("request-timeout", 120)))
+                .header("Authorization", "Bearer " + token)
+                .GET();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int intOpt(String name, int fallback) {
+        return Integer.parseInt(opts.getOrDefault(name, String.valueOf(fallback)));
+    }
+
+    private long longOpt(String name, long fallback) {
+        return Long.parseLong(opts.getOrDefault(name, String.valueOf(fallback)));
+    }
+
+    // ------------------------------------------------------------ results
+
+    interface Call {
+        HttpResponse<String> run() throws IOException, InterruptedException;
+    }
+
+    static final class Scenario {
+        final String name;
+        final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+        volatile boolean measuring;
+        volatile long startNanos;
+        volatile long stopNanos;
+
+        Scenario(String name) {
+            this.name = name;
+        }
+
+        void start() {
+            startNanos = System.nanoTime();
+            measuring = true;
+        }
+
+        void stop() {
+            measuring = false;
+            stopNanos = System.nanoTime();
+        }
+
+        double seconds() {
+            return (stopNanos - startNanos) / 1e9;
+        }
+
+        HttpResponse<String> record(String path, Call call) {
+            long started = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = call.run();
+            } catch (IOException e) {
+                // counted as an error below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long elapsed = System.nanoTime() - started;
+            if (measuring) {
+                endpoints.computeIfAbsent(path, p -> new Endpoint())
+                        .add(response == null ? -1 : response.statusCode(), elapsed);
+            }
+            return response;
+        }
+
+        String summary() {
+            StringBuilder out = new StringBuilder();
+            endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(e -> {
+                double[] ms = e.getValue().sortedMillis();
+                out.append(String.format(Locale.ROOT,
+                        "  %-16s n=%d  %.1f req/s  p50=%.1f ms  p99=%.1f ms  5xx=%d (503=%d)  transport=%d%n",
+                        e.getKey(), ms.length, ms.length / seconds(), percentile(ms, 50), percentile(ms, 99),
+                        e.getValue().countServerErrors(), e.getValue().count(503), e.getValue().count(-1)));
+            });
+            return out.toString().stripTrailing();
+        }
+    }
+
+    static final class Endpoint {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+
+        synchronized void add(int status, long nanos) {
+            latencies.add(nanos);
+            statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+        }
+
+        synchronized double[] sortedMillis() {
+            double[] ms = new double[latencies.size()];
+            for (int i = 0; i < ms.length; i++) ms[i] = latencies.get(i) / 1e6;
+            Arrays.sort(ms);
+            return ms;
+        }
+
+        int count(int status) {
+            AtomicInteger n = statuses.get(status);
+            return n == null ? 0 : n.get();
+        }
+
+        int countServerErrors() {
+            int n = 0;
+            for (Map.Entry<Integer, AtomicInteger> e : statuses.entrySet()) {
+                if (e.getKey() >= 500) n += e.getValue().get();
+            }
+            return n;
+        }
+    }
+
+    // Nearest-rank percentile over sorted samples
+    static double percentile(double[] sorted, double p) {
+        if (sorted.length == 0) return 0.0;
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private String toJson(Map<String, Scenario> results) {
+        StringBuilder out = new StringBuilder();
+        out.append("{\n");
+        out.append("  \"config\": {\n");
+        out.append("    \"base\": \"").append(escape(base)).append("\",\n");
+        out.append("    \"viewers\": ").append(intOpt("viewers", 50)).append(",\n");
+        out.append("    \"viewerIntervalMs\": ").append(longOpt("viewer-interval-ms", 1000)).append(",\n");
+        out.append("    \"warningClients\": ").append(intOpt("warning-clients", 4)).append(",\n");
+        out.append("    \"warningIntervalMs\": ").append(longOpt("warning-interval-ms", 1000)).append(",\n");
+        out.append("    \"warmupSeconds\": ").append(longOpt("warmup", 10)).append(",\n");
+        out.append("    \"durationSeconds\": ").append(longOpt("duration", 60)).append("\n");
+        out.append("  },\n");
+        out.append("  \"scenarios\": {");
+
+        String scenarioSep = "\n";
+        for (Scenario scenario : results.values()) {
+            out.append(scenarioSep).append("    \"").append(scenario.name).append("\": {\n");
+            out.append("      \"measuredSeconds\": ").append(fmt(scenario.seconds())).append(",\n");
+            out.append("      \"endpoints\": {");
+
+            String endpointSep = "\n";
+            List<String> paths = new ArrayList<>(scenario.endpoints.keySet());
+            paths.sort(null);
+            for (String path : paths) {
+                Endpoint endpoint = scenario.endpoints.get(path);
+                double[] ms = endpoint.sortedMillis();
+                double total = 0;
+                for (double v : ms) total += v;
+
+                int ok = endpoint.count(200) + endpoint.count(202);
+                int serverErrors = endpoint.countServerErrors();
+                int other = ms.length - ok - endpoint.count(304) - endpoint.count(429) - serverErrors - endpoint.count(-1);
+
+                out.append(endpointSep).append("        \"").append(path).append("\": {\n");
+                out.append("          \"requests\": ").append(ms.length).append(",\n");
+                out.append("          \"ok\": ").append(ok).append(",\n");
+                out.append("          \"notModified\": ").append(endpoint.count(304)).append(",\n");
+                out.append("          \"rejected429\": ").append(endpoint.count(429)).append(",\n");
+                out.append("          \"serverErrors\": ").append(serverErrors).append(",\n");
+                out.append("          \"unavailable503\": ").append(endpoint.count(503)).append(",\n");
+                out.append("          \"otherStatuses\": ").append(other).append(",\n");
+                out.append("          \"transportErrors\": ").append(endpoint.count(-1)).append(",\n");
+                out.append("          \"throughputRps\": ").append(fmt(ms.length / scenario.seconds())).append(",\n");
+                out.append("          \"latencyMs\": {\n");
+                out.append("            \"mean\": ").append(fmt(ms.length == 0 ? 0 : total / ms.length)).append(",\n");
+                out.append("            \"p50\": ").append(fmt(percentile(ms, 50))).append(",\n");
+                out.append("            \"p90\": ").append(fmt(percentile(ms, 90))).append(",\n");
+                out.append("            \"p99\": ").append(fmt(percentile(ms, 99))).append(",\n");
+                out.append("            \"max\": ").append(fmt(ms.length == 0 ? 0 : ms[ms.length - 1])).append("\n");
+                out.append("          }\n");
+                out.append("        }");
+                endpointSep = ",\n";
+            }
+            out.append("\n      }\n");
+            out.append("    }");
+            scenarioSep = ",\n";
+        }
+        out.append("\n  },\n");
+        out.append("  \"meta\": {\n");
+        out.append("    \"label\": \"").append(escape(opts.getOrDefault("label", "local"))).append("\",\n");
+        out.append("    \"generatedAt\": \"").append(Instant.now()).append("\"\n");
+        out.append("  }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String fmt(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                opts.put(args[i].substring(2), args[++i]);
+            }
+        }
+        return opts;
+    }
+}
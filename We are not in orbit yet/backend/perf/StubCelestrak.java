@@ -0,0 +1,252 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/*
+ * Local stand-in for the CelesTrak GP endpoint, serving synthetic 3-line TLE feeds.
+ *
+ *   java perf/StubCelestrak.java --port 8099 --active 8000 --debris 25000 --near-iss 40
+ *
+ * GET /gp.php?GROUP=active|debris  TLE text, same layout as CelesTrak
+ * GET /stats                       request counters as JSON
+ *
+ * The catalog is generated from a fixed seed, so every run of a given size serves the same
+ * objects. With --advance-epoch-min each feed request moves every epoch forward, which makes
+ * each sync produce new TLE versions instead of being a no-op.
+ */
+public class StubCelestrak {
+
+    private static final int ISS_NORAD_ID = 25544;
+    private static final double MU = 398600.4418; // km^3/s^2
+    private static final double EARTH_RADIUS_KM = 6378.137;
+
+    private final int activeCount;
+    private final int debrisCount;
+    private final int nearIss;
+    private final long seed;
+    private final long latencyMs;
+    private final Duration epochStep;
+    private final Instant baseEpoch;
+
+    private final AtomicLong feedRequests = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+    private final Map<String, AtomicLong> epochTicks = new HashMap<>();
+
+    StubCelestrak(int activeCount, int debrisCount, int nearIss, long seed, long latencyMs, long advanceEpochMin) {
+        this.activeCount = activeCount;
+        this.debrisCount = debrisCount;
+        this.nearIss = nearIss;
+        this.seed = seed;
+        this.latencyMs = latencyMs;
+        this.epochStep = Duration.ofMinutes(advanceEpochMin);
+        // Start of the current UTC day keeps epochs close to "now" so SGP4 stays in its valid range
+        this.baseEpoch = ZonedDateTime.now(ZoneOffset.UTC).toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+        epochTicks.put("active", new AtomicLong());
+        epochTicks.put("debris", new AtomicLong());
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = parseArgs(args);
+        int port = Integer.parseInt(opts.getOrDefault("port", "8099"));
+        StubCelestrak stub = new StubCelestrak(
+                Integer.parseInt(opts.getOrDefault("active", "8000")),
+                Integer.parseInt(opts.getOrDefault("debris", "25000")),
+                Integer.parseInt(opts.getOrDefault("near-iss", "40")),
+                Long.parseLong(opts.getOrDefault("seed", "42")),
+                Long.parseLong(opts.getOrDefault("latency-ms", "0")),
+                Long.parseLong(opts.getOrDefault("advance-epoch-min", "0")));
+
+        // Five-digit catalog numbers: active objects use 30000-59999, debris 60000-99999
+        if (stub.activeCount < 1 || stub.activeCount > 30000 || stub.debrisCount < 0 || stub.debrisCount > 40000) {
+            throw new IllegalArgumentException("--active must be 1..30000 and --debris 0..40000");
+        }
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/gp.php", stub::handleFeed);
+        server.createContext("/stats", stub::handleStats);
+        server.start();
+        System.out.println("Stub CelesTrak listening on :" + port + " (active=" + stub.activeCount
+                + ", debris=" + stub.debrisCount + ", near-iss=" + stub.nearIss + ")");
+    }
+
+    private void handleFeed(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String group = query == null ? "" : queryParam(query, "GROUP").toLowerCase();
+        if (!epochTicks.containsKey(group)) {
+            send(exchange, 404, "text/plain", "Unknown GROUP");
+            return;
+        }
+
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long tick = epochTicks.get(group).getAndIncrement();
+        Instant epoch = baseEpoch.plus(epochStep.multipliedBy(tick));
+        String body = group.equals("active") ? activeFeed(epoch) : debrisFeed(epoch);
+
+        feedRequests.incrementAndGet();
+        bytesServed.addAndGet(body.length());
+        send(exchange, 200, "text/plain", body);
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        String body = "{\"feedRequests\": " + feedRequests.get()
+                + ", \"bytesServed\": " + bytesServed.get()
+                + ", \"active\": " + activeCount
+                + ", \"debris\": " + debrisCount
+                + ", \"nearIss\": " + nearIss + "}";
+        send(exchange, 200, "application/json", body);
+    }
+
+    // Active payloads: the ISS plus a LEO/MEO/GEO mix
+    private String activeFeed(Instant epoch) {
+        Random random = new Random(seed);
+        StringBuilder out = new StringBuilder(activeCount * 170);
+        appendTle(out, "ISS (ZARYA)", ISS_NORAD_ID, "98067A", epoch, 51.64, 120.0, 0.0005, 90.0, 0.0, 15.50, 0.00016);
+
+        for (int i = 1; i < activeCount; i++) {
+            int noradId = 30000 + i;
+            double shell = random.nextDouble();
+            double meanMotion;
+            double inclination;
+            if (shell < 0.85) {
+                meanMotion = revsPerDay(500 + random.nextDouble() * 700); // LEO
+                inclination = random.nextBoolean() ? 53.0 + random.nextGaussian() : 97.5 + random.nextGaussian() * 0.5;
+            } else if (shell < 0.95) {
+                meanMotion = revsPerDay(19000 + random.nextDouble() * 4000); // MEO navigation
+                inclination = 55.0 + random.nextGaussian();
+            } else {
+                meanMotion = 1.0027; // GEO
+                inclination = Math.abs(random.nextGaussian() * 0.1);
+            }
+            appendTle(out, String.format(Locale.ROOT, "SYNTH SAT-%05d", i), noradId, designator(i), epoch,
+                    clampInclination(inclination), random.nextDouble() * 360.0, 0.0001 + random.nextDouble() * 0.002,
+                    random.nextDouble() * 360.0, random.nextDouble() * 360.0, meanMotion, 0.00005);
+        }
+        return out.toString();
+    }
+
+    // Debris: mostly low LEO, plus a cluster sharing the ISS plane so screening always has work to report
+    private String debrisFeed(Instant epoch) {
+        Random random = new Random(seed * 31 + 7);
+        StringBuilder out = new StringBuilder(debrisCount * 170);
+
+        for (int i = 0; i < debrisCount; i++) {
+            int noradId = 60000 + i;
+            String name = String.format(Locale.ROOT, "SYNTH DEB-%05d", i);
+            if (i < nearIss) {
+                // Same plane as the ISS, a few degrees apart in mean anomaly and slightly different altitude
+                appendTle(out, name, noradId, designator(1000 + i), epoch, 51.64 + random.nextGaussian() * 0.05,
+                        120.0 + random.nextGaussian() * 0.05, 0.0005 + random.nextDouble() * 0.001, 90.0,
+                        360.0 + random.nextGaussian() * 3.0, 15.50 + random.nextGaussian() * 0.01, 0.0003);
+                continue;
+            }
+            double altitude = 350 + Math.abs(random.nextGaussian()) * 600;
+            appendTle(out, name, noradId, designator(1000 + i), epoch,
+                    clampInclination(random.nextDouble() < 0.5 ? 98.0 + random.nextGaussian() : random.nextDouble() * 100.0),
+                    random.nextDouble() * 360.0, 0.0005 + random.nextDouble() * 0.02, random.nextDouble() * 360.0,
+                    random.nextDouble() * 360.0, revsPerDay(altitude), 0.0005);
+        }
+        return out.toString();
+    }
+
+    private static double revsPerDay(double altitudeKm) {
+        double a = EARTH_RADIUS_KM + altitudeKm;
+        return 86400.0 / (2 * Math.PI * Math.sqrt(a * a * a / MU));
+    }
+
+    private static double clampInclination(double inclination) {
+        return Math.min(179.9, Math.max(0.0, inclination));
+    }
+
+    private static String designator(int i) {
+        return String.format(Locale.ROOT, "%02d%03d%s", 24, i % 1000, (char) ('A' + (i / 1000) % 26));
+    }
+
+    // Fixed-column TLE layout with valid checksums, as the Orekit parser requires
+    private static void appendTle(StringBuilder out, String name, int noradId, String designator, Instant epoch,
+                                  double inclination, double raan, double eccentricity, double argPerigee,
+                                  double meanAnomaly, double meanMotion, double bstar) {
+        ZonedDateTime utc = epoch.atZone(ZoneOffset.UTC);
+        double dayOfYear = utc.getDayOfYear()
+                + (utc.toLocalTime().toSecondOfDay() + utc.getNano() / 1e9) / 86400.0;
+
+        String line1 = String.format(Locale.ROOT, "1 %05dU %-8s %02d%012.8f  .00001000  00000-0 %s 0  999",
+                noradId, designator, utc.getYear() % 100, dayOfYear, exponential(bstar));
+        String line2 = String.format(Locale.ROOT, "2 %05d %8.4f %8.4f %07d %8.4f %8.4f %11.8f%5d",
+                noradId, inclination, raan % 360.0, Math.round(eccentricity * 1e7), argPerigee % 360.0,
+                meanAnomaly % 360.0, meanMotion, 1000);
+
+        out.append(name).append('\n')
+           .append(line1).append(checksum(line1)).append('\n')
+           .append(line2).append(checksum(line2)).append('\n');
+    }
+
+    // TLE implied-decimal exponent notation, e.g. 0.00016 -> " 16000-3"
+    private static String exponential(double value) {
+        if (value == 0.0) return " 00000-0";
+        int exponent = (int) Math.floor(Math.log10(Math.abs(value))) + 1;
+        long mantissa = Math.round(Math.abs(value) / Math.pow(10, exponent) * 1e5);
+        if (mantissa == 100000) {
+            mantissa = 10000;
+            exponent++;
+        }
+        return String.format(Locale.ROOT, "%s%05d%s%d", value < 0 ? "-" : " ", mantissa, exponent < 0 ? "-" : "+", Math.abs(exponent));
+    }
+
+    private static int checksum(String line) {
+        int sum = 0;
+        for (char c : line.toCharArray()) {
+            if (Character.isDigit(c)) sum += c - '0';
+            else if (c == '-') sum += 1;
+        }
+        return sum % 10;
+    }
+
+    private static String queryParam(String query, String name) {
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equalsIgnoreCase(name)) return pair.substring(eq + 1);
+        }
+        return "";
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                opts.put(args[i].substring(2), args[++i]);
+            }
+        }
+        return opts;
+    }
+}
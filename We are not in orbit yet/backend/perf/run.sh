@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# End-to-end perf run: disposable PostgreSQL, stub CelesTrak, backend under the perf profile, scripted load.
+#
+#   perf/run.sh                              defaults below
+#   LABEL=after VIEWERS=200 perf/run.sh      report goes to perf/reports/after.json
+#
+# Compare two builds with: diff perf/reports/before.json perf/reports/after.json
+# Requires docker and a JDK 17+ on PATH. Run from the backend directory.
+set -euo pipefail
+
+LABEL=${LABEL:-$(git rev-parse --short HEAD 2>/dev/null || echo local)}
+ACTIVE=${ACTIVE:-8000}
+DEBRIS=${DEBRIS:-25000}
+NEAR_ISS=${NEAR_ISS:-40}
+ADVANCE_EPOCH_MIN=${ADVANCE_EPOCH_MIN:-10}
+VIEWERS=${VIEWERS:-50}
+VIEWER_INTERVAL_MS=${VIEWER_INTERVAL_MS:-1000}
+WARNING_CLIENTS=${WARNING_CLIENTS:-4}
+WARNING_INTERVAL_MS=${WARNING_INTERVAL_MS:-1000}
+WARMUP=${WARMUP:-10}
+DURATION=${DURATION:-60}
+SCENARIOS=${SCENARIOS:-viewers,warnings,sync}
+
+PG_PORT=${PG_PORT:-55432}
+STUB_PORT=${STUB_PORT:-8099}
+APP_PORT=${APP_PORT:-8080}
+DB_CONTAINER=orbital-perf-db
+
+cd "$(dirname "$0")/.."
+mkdir -p perf/reports
+LOG_DIR=$(mktemp -d)
+PIDS=()
+
+cleanup() {
+    for pid in "${PIDS[@]}"; do kill "$pid" 2>/dev/null || true; done
+    docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+    echo "Logs kept in $LOG_DIR"
+}
+trap cleanup EXIT
+
+echo "Starting disposable PostgreSQL on :$PG_PORT"
+docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+docker run -d --rm --name "$DB_CONTAINER" \
+    -e POSTGRES_PASSWORD=perf -e POSTGRES_DB=orbital_perf \
+    -p "$PG_PORT":5432 --tmpfs /var/lib/postgresql/data \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB_CONTAINER" pg_isready -U postgres -d orbital_perf >/dev/null 2>&1; do sleep 1; done
+
+echo "Starting stub CelesTrak on :$STUB_PORT ($ACTIVE active, $DEBRIS debris)"
+java perf/StubCelestrak.java --port "$STUB_PORT" --active "$ACTIVE" --debris "$DEBRIS" \
+    --near-iss "$NEAR_ISS" --advance-epoch-min "$ADVANCE_EPOCH_MIN" >"$LOG_DIR/stub.log" 2>&1 &
+PIDS+=($!)
+
+echo "Building backend"
+# Through sh: mvnw is not tracked as executable, so ./mvnw fails on a fresh checkout
+sh ./mvnw -q -B -DskipTests package
+
+echo "Starting backend on :$APP_PORT (perf profile)"
+DB_URL="jdbc:postgresql://localhost:$PG_PORT/orbital_perf" DB_PASSWORD=perf STUB_PORT="$STUB_PORT" \
+    java --add-modules jdk.incubator.vector -jar target/backend-0.0.1-SNAPSHOT.jar \
+    --spring.profiles.active=perf --server.port="$APP_PORT" >"$LOG_DIR/backend.log" 2>&1 &
+PIDS+=($!)
+
+java perf/LoadDriver.java --base "http://localhost:$APP_PORT" --label "$LABEL" --scenarios "$SCENARIOS" \
+    --viewers "$VIEWERS" --viewer-interval-ms "$VIEWER_INTERVAL_MS" \
+    --warning-clients "$WARNING_CLIENTS" --warning-interval-ms "$WARNING_INTERVAL_MS" \
+    --warmup "$WARMUP" --duration "$DURATION" --out "perf/reports/$LABEL.json"
@@ -1,18 +1,45 @@
 package com.orbital.backend;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
-import com.orbital.backend.model.Satellite;
+import com.orbital.backend.config.OrekitConfig;
+import com.orbital.backend.model.TleHistory;
 import com.orbital.backend.repository.SatelliteRepository;
+import com.orbital.backend.service.AdmissionControlService;
+import com.orbital.backend.service.CatalogService;
+import com.orbital.backend.service.CatalogSnapshot;
 import com.orbital.backend.service.CollisionDetectionService;
+import com.orbital.backend.service.DecayWatchService;
+import com.orbital.backend.service.DistributedScreeningService;
+import com.orbital.backend.service.ManeuverService;
 import com.orbital.backend.service.OrbitalMechanicsService;
+import com.orbital.backend.service.OverloadedException;
+import com.orbital.backend.service.PopulationAnalyticsService;
+import com.orbital.backend.service.PropagationService;
+import com.orbital.backend.service.SnapshotCache;
+import com.orbital.backend.service.TleHistoryService;
 import com.orbital.backend.service.TleService;
 
 @RestController
@@ -23,15 +50,55 @@ public class SpaceController {
     private final SatelliteRepository satelliteRepository;
     private final OrbitalMechanicsService mechanicsService;
     private final CollisionDetectionService collisionService;
+    private final TleHistoryService historyService;
+    private final DecayWatchService decayWatchService;
+    private final PropagationService propagationService;
+    private final OrekitConfig orekitConfig;
+    private final CatalogService catalogService;
+    private final SnapshotCache snapshotCache;
+    private final AdmissionControlService admissionControl;
+    private final ManeuverService maneuverService;
+    private final DistributedScreeningService distributedScreening;
+    private final PopulationAnalyticsService populationAnalytics;
+
+    // Time quanta: requests inside the same quantum share one computation
+    @Value("${orbital.cache.positions-quantum-ms:5000}")
+    private long positionsQuantumMs;
+
+    @Value("${orbital.cache.collision-quantum-ms:5000}")
+    private long collisionQuantumMs;
+
+    @Value("${orbital.cache.warnings-quantum-ms:300000}")
+    private long warningsQuantumMs;
 
     public SpaceController(TleService tleService, SatelliteRepository satelliteRepository,
                             OrbitalMechanicsService mechanicsService,
-                            CollisionDetectionService collisionService)
+                            CollisionDetectionService collisionService,
+                            TleHistoryService historyService,
+                            DecayWatchService decayWatchService,
+                            PropagationService propagationService,
+                            OrekitConfig orekitConfig,
+                            CatalogService catalogService,
+                            SnapshotCache snapshotCache,
+                            AdmissionControlService admissionControl,
+                            ManeuverService maneuverService,
+                            DistributedScreeningService distributedScreening,
+                            PopulationAnalyticsService populationAnalytics)
     {
         this.tleService = tleService;
         this.satelliteRepository = satelliteRepository;
         this.mechanicsService = mechanicsService;
         this.collisionService = collisionService;
+        this.historyService = historyService;
+        this.decayWatchService = decayWatchService;
+        this.propagationService = propagationService;
+        this.orekitConfig = orekitConfig;
+        this.catalogService = catalogService;
+        this.snapshotCache = snapshotCache;
+        this.admissionControl = admissionControl;
+        this.maneuverService = maneuverService;
+        this.distributedScreening = distributedScreening;
+        this.populationAnalytics = populationAnalytics;
     }
 
     @GetMapping("/health")
@@ -40,58 +107,210 @@ public class SpaceController {
         return "Systems online: Tracking " + count + " satellites.";
     }
 
+    // Readiness probe: 503 until Orekit time scales, frames and EOP are warm
+    @GetMapping("/health/orekit")
+    public ResponseEntity<Map<String, Object>> orekitReadiness() {
+        HttpStatus status = orekitConfig.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(orekitConfig.getStatus());
+    }
+
+    // Off the request thread on its own bulkhead, with a timeout long enough for a full catalog
     @GetMapping("/sync")
-    public String syncData(){
-        tleService.fetchAndSaveTles();
-        return "Sync has been initiated. Check the console for more details.";
+    public DeferredResult<String> syncData(){
+        DeferredResult<String> result = new DeferredResult<>(admissionControl.getSyncTimeoutMs());
+        admissionControl.submit(AdmissionControlService.SYNC, () -> {
+            tleService.fetchAndSaveTles();
+            return "Sync has been initiated. Check the console for more details.";
+        }).whenComplete((message, error) -> {
+            if (error != null) result.setErrorResult(error);
+            else result.setResult(message);
+        });
+        return result;
     }
 
     @GetMapping("/satellites")
-    public List<Map<String, Object>> getSatellites() {
-        List<Satellite> satellites = satelliteRepository.findAll();
-        List<Map<String, Object>> livePositions = new ArrayList<>();
-
-        for (Satellite sat : satellites) {
-            Map<String, Object> pos = mechanicsService.getSatellitePosition(sat);
-            if (pos != null) {
-                pos.put("type", sat.getType()); // Add type to response
-                livePositions.add(pos);
-            }
-        }
-        return livePositions;
+    public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getSatellites(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        CatalogSnapshot catalog = catalogService.snapshot();
+        return snapshotCache.get("positions", positionsQuantumMs, catalog.version(),
+                task -> admissionControl.submit(AdmissionControlService.POSITIONS, task),
+                at -> mechanicsService.getSatellitePositions(catalog, toDate(at)))
+                .thenApply(snapshot -> snapshot.toResponse(ifNoneMatch));
     }
 
     @GetMapping("/satellites/{id}/path")
     public List<Map<String, Double>> getSatellitePath(@PathVariable Long id) {
-        Satellite sat = satelliteRepository.findById(id).orElse(null);
-        if (sat == null) return new ArrayList<>();
-        return mechanicsService.getOrbitPath(sat);
+        CatalogSnapshot catalog = catalogService.snapshot();
+        int index = catalog.indexOfId(id);
+        if (index < 0) return new ArrayList<>();
+        return mechanicsService.getOrbitPath(catalog.toSatellite(index));
     }
 
-    @GetMapping("/collision-check")
-    public Map<String, Object> checkCollisions() {
-        List<Map<String, Object>> threats = collisionService.checkISSCollisions();
+    // Time travel: position propagated from the TLE version closest to the requested instant
+    @GetMapping("/history/{noradId}/position")
+    public CompletableFuture<Map<String, Object>> getHistoricalPosition(@PathVariable Integer noradId,
+                                                                        @RequestParam String at) {
+        // Parsed here so a malformed timestamp is still rejected without taking a bulkhead slot
+        Instant instant = Instant.parse(at);
+        return admissionControl.submit(AdmissionControlService.POSITIONS, () -> {
+            Map<String, Object> pos = historyService.getPositionAsOf(noradId, instant);
+            return pos != null ? pos : new java.util.HashMap<String, Object>();
+        });
+    }
+
+    @GetMapping("/history/{noradId}")
+    public List<TleHistory> getTleHistory(@PathVariable Integer noradId,
+                                          @RequestParam String from,
+                                          @RequestParam String to) {
+        return historyService.getVersions(noradId, Instant.parse(from), Instant.parse(to));
+    }
+
+    // Reentry watch: lowest perigee first, or soonest estimated reentry first
+    @GetMapping("/decay")
+    public Map<String, Object> getDecayWatch(@RequestParam(defaultValue = "perigee") String sort,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        List<Map<String, Object>> objects = "reentry".equalsIgnoreCase(sort)
+                ? decayWatchService.getSoonestReentry(limit)
+                : decayWatchService.getLowestPerigee(limit);
+
         Map<String, Object> response = new java.util.HashMap<>();
-        response.put("threatCount", threats.size());
-        response.put("threats", threats);
-        response.put("alert", threats.size() > 0);
+        response.put("sort", "reentry".equalsIgnoreCase(sort) ? "reentry" : "perigee");
+        response.put("perigeeThresholdKm", decayWatchService.getPerigeeThresholdKm());
+        response.put("belowThresholdCount", decayWatchService.countBelowThreshold());
+        response.put("objects", objects);
         return response;
     }
 
+    @GetMapping("/decay/{noradId}")
+    public Map<String, Object> getDecayState(@PathVariable Integer noradId) {
+        Map<String, Object> state = decayWatchService.getState(noradId);
+        return state != null ? state : new java.util.HashMap<>();
+    }
+
+    @GetMapping("/collision-check")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> checkCollisions(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return snapshotCache.get("collision-check", collisionQuantumMs, catalogService.snapshot().version(),
+                task -> admissionControl.submit(AdmissionControlService.POSITIONS, task), at -> {
+            List<Map<String, Object>> threats = collisionService.checkISSCollisions(toDate(at));
+            Map<String, Object> response = new java.util.HashMap<>();
+            response.put("threatCount", threats.size());
+            response.put("threats", threats);
+            response.put("alert", threats.size() > 0);
+            return response;
+        }).thenApply(snapshot -> snapshot.toResponse(ifNoneMatch));
+    }
+
     // Professional Space Situational Awareness: 24-hour Conjunction Warnings
     @GetMapping("/warnings")
-    public Map<String, Object> getConjunctionWarnings() {
-        List<Map<String, Object>> warnings = collisionService.getIssConjunctions();
-        
-        Map<String, Object> response = new java.util.HashMap<>();
-        response.put("protectedAsset", "ISS (ZARYA)");
-        response.put("predictionWindow", "24 hours");
-        response.put("threshold", "50 km");
-        response.put("warningCount", warnings.size());
-        response.put("conjunctions", warnings);
-        response.put("criticalAlert", warnings.size() > 0);
-        
-        return response;
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getConjunctionWarnings(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return snapshotCache.get("warnings", warningsQuantumMs, catalogService.snapshot().version(),
+                task -> admissionControl.submit(AdmissionControlService.SCREENING, task), at -> {
+            List<Map<String, Object>> warnings = collisionService.getIssConjunctions(toDate(at));
+
+            Map<String, Object> response = new java.util.HashMap<>();
+            response.put("protectedAsset", "ISS (ZARYA)");
+            response.put("predictionWindow", "24 hours");
+            response.put("threshold", "50 km");
+            response.put("warningCount", warnings.size());
+            response.put("conjunctions", warnings);
+            response.put("criticalAlert", warnings.size() > 0);
+            return response;
+        }).thenApply(snapshot -> snapshot.toResponse(ifNoneMatch));
+    }
+
+    // Avoidance what-if: apply candidate burns to the protected asset and re-screen its cached neighbourhood
+    @PostMapping("/warnings/what-if")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> evaluateManeuvers(@RequestBody WhatIfRequest request) {
+        return admissionControl.submit(AdmissionControlService.WHAT_IF, () -> {
+            try {
+                return ResponseEntity.ok(maneuverService.evaluate(request.candidates()));
+            } catch (IllegalStateException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.<String, Object>of("error", e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.<String, Object>of("error", e.getMessage()));
+            }
+        });
+    }
+
+    // Distributed screening: the run is split into shards that any instance sharing the database can pick up
+    @PostMapping("/screening/runs")
+    public ResponseEntity<Map<String, Object>> createScreeningRun(@RequestParam(defaultValue = "8") int shards) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(distributedScreening.createRun(shards));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.<String, Object>of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.<String, Object>of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/screening/runs/{runId}")
+    public ResponseEntity<Map<String, Object>> getScreeningRun(@PathVariable String runId) {
+        return distributedScreening.getRun(runId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
-}
\ No newline at end of file
+    // Population analytics: pre-aggregated in memory, no propagation on the request path
+    @GetMapping("/analytics/population")
+    public Map<String, Object> getPopulation() {
+        return populationAnalytics.getPopulation();
+    }
+
+    @GetMapping("/analytics/occupancy")
+    public Map<String, Object> getOccupancy() {
+        return populationAnalytics.getOccupancy();
+    }
+
+    @GetMapping("/analytics/history")
+    public List<Map<String, Object>> getPopulationHistory(@RequestParam(defaultValue = "60") int limit) {
+        return populationAnalytics.getHistory(limit);
+    }
+
+    @GetMapping("/catalog/stats")
+    public Map<String, Object> getCatalogStats() {
+        return catalogService.getStats();
+    }
+
+    @GetMapping("/cache/stats")
+    public Map<String, Object> getCacheStats() {
+        return snapshotCache.getStats();
+    }
+
+    @GetMapping("/admission/stats")
+    public Map<String, Object> getAdmissionStats() {
+        return admissionControl.getStats();
+    }
+
+    @GetMapping("/propagation/stats")
+    public Map<String, Object> getPropagationStats() {
+        return propagationService.getStats();
+    }
+
+    // Malformed ISO-8601 timestamps in query parameters are a client error, not a 500
+    @ExceptionHandler(DateTimeParseException.class)
+    public ResponseEntity<Map<String, Object>> handleBadTimestamp(DateTimeParseException e) {
+        return ResponseEntity.badRequest()
+                .body(Map.<String, Object>of("error", "Invalid timestamp '" + e.getParsedString() + "', expected ISO-8601"));
+    }
+
+    // Load shedding: tell the client when to come back instead of letting requests pile up
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverload(OverloadedException e) {
+        Map<String, Object> body = new java.util.HashMap<>();
+        body.put("error", e.getMessage());
+        body.put("retryAfterSeconds", e.getRetryAfterSeconds());
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    private AbsoluteDate toDate(long epochMillis) {
+        return new AbsoluteDate(new java.util.Date(epochMillis), TimeScalesFactory.getUTC());
+    }
+
+}
+
+record WhatIfRequest(List<ManeuverService.ManeuverCandidate> candidates) {}
@@ -1,10 +1,24 @@
 package com.orbital.backend.config;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.orekit.data.DataContext;
 import org.orekit.data.DataProvidersManager;
 import org.orekit.data.DirectoryCrawler;
+import org.orekit.data.ZipJarCrawler;
+import org.orekit.frames.EOPHistory;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import jakarta.annotation.PostConstruct;
@@ -12,11 +26,59 @@ import jakarta.annotation.PostConstruct;
 @Configuration
 public class OrekitConfig {
 
+    // Either a directory, a .zip file, or classpath:<resource>.zip; empty means ~/.orekit-data
+    @Value("${orekit.data.location:}")
+    private String dataLocation;
+
+    // Frozen: only the configured dataset is used (no home-directory fallback) and failures abort startup
+    @Value("${orekit.data.frozen:false}")
+    private boolean frozen;
+
+    @Value("${orekit.data.warmup:true}")
+    private boolean warmup;
+
+    private volatile boolean ready = false;
+    private volatile String failure;
+    private volatile long totalWarmupMs = -1;
+    private final Map<String, Long> warmupTimings = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
+        System.out.println("Initialising Orekit physics engine...");
+        long start = System.currentTimeMillis();
+
         try {
-            System.out.println("Initialising Orekit physics engine...");
+            DataProvidersManager manager = DataContext.getDefault().getDataProvidersManager();
+            String source = registerProvider(manager);
+            warmupTimings.put("providers", System.currentTimeMillis() - start);
+            System.out.println("Orekit data registered from: " + source);
+        } catch (Exception e) {
+            failure = e.getMessage();
+            if (frozen) {
+                throw new IllegalStateException("Frozen Orekit dataset could not be loaded", e);
+            }
+            e.printStackTrace();
+            return;
+        }
+
+        if (!warmup) {
+            ready = true;
+            return;
+        }
 
+        // Block startup until warm-up is done so no request is served against half-loaded data;
+        // the pieces still load in parallel, so this costs the slowest one rather than their sum
+        warmUp(start);
+        if (!ready && frozen) {
+            throw new IllegalStateException("Frozen Orekit dataset failed warm-up: " + failure);
+        }
+    }
+
+    private String registerProvider(DataProvidersManager manager) {
+        if (dataLocation == null || dataLocation.isBlank()) {
+            if (frozen) {
+                throw new IllegalStateException("orekit.data.location must be set when orekit.data.frozen=true");
+            }
             File orekitData = new File(System.getProperty("user.home"), ".orekit-data");
 
             // Feeding the data to Orekit
@@ -24,14 +86,95 @@ public class OrekitConfig {
             if (subFolder.exists()) {
                 orekitData = subFolder;
             }
-
-            DataProvidersManager manager = DataContext.getDefault().getDataProvidersManager();
             manager.addProvider(new DirectoryCrawler(orekitData));
+            return orekitData.getAbsolutePath();
+        }
+
+        if (dataLocation.startsWith("classpath:")) {
+            String resource = dataLocation.substring("classpath:".length());
+            if (resource.startsWith("/")) resource = resource.substring(1);
+            if (OrekitConfig.class.getClassLoader().getResource(resource) == null) {
+                throw new IllegalStateException("Orekit data resource not found: " + dataLocation);
+            }
+            clearIfFrozen(manager);
+            manager.addProvider(new ZipJarCrawler(OrekitConfig.class.getClassLoader(), resource));
+            return dataLocation;
+        }
+
+        File location = new File(dataLocation);
+        if (!location.exists()) {
+            throw new IllegalStateException("Orekit data location not found: " + location.getAbsolutePath());
+        }
+        clearIfFrozen(manager);
+        if (location.isFile()) {
+            manager.addProvider(new ZipJarCrawler(location));
+        } else {
+            manager.addProvider(new DirectoryCrawler(location));
+        }
+        return location.getAbsolutePath();
+    }
+
+    // Only drop the default providers once the configured dataset is known to exist
+    private void clearIfFrozen(DataProvidersManager manager) {
+        if (frozen) {
+            manager.clearProviders();
+        }
+    }
 
-            System.out.println("Orekit initialised successfully using data at: " + orekitData.getAbsolutePath());
+    // Loads the lazily-initialised pieces the first requests would otherwise pay for, in parallel
+    private void warmUp(long start) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "orekit-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Void> utc = timed("utc", () -> TimeScalesFactory.getUTC(), pool);
+            CompletableFuture<Void> eme2000 = timed("eme2000", () -> FramesFactory.getEME2000(), pool);
+            CompletableFuture<Void> eop = timed("eop", () -> {
+                EOPHistory history = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true);
+                history.getEndDate();
+            }, pool);
+            // ITRF needs UTC and EOP, so it runs once they are in, and forces a transform for today
+            CompletableFuture<Void> itrf = CompletableFuture.allOf(utc, eop).thenCompose(v ->
+                timed("itrf", () -> FramesFactory.getTEME().getTransformTo(
+                        FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                        new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC())), pool));
 
+            CompletableFuture.allOf(utc, eme2000, eop, itrf).join();
+            totalWarmupMs = System.currentTimeMillis() - start;
+            ready = true;
+            System.out.println("Orekit warm-up complete in " + totalWarmupMs + "ms " + warmupTimings);
         } catch (Exception e) {
+            failure = e.getMessage();
+            System.err.println("Orekit warm-up failed: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            pool.shutdown();
         }
     }
-}
\ No newline at end of file
+
+    private CompletableFuture<Void> timed(String name, Runnable task, ExecutorService pool) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.currentTimeMillis();
+            task.run();
+            warmupTimings.put(name, System.currentTimeMillis() - start);
+        }, pool);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", ready);
+        status.put("source", dataLocation == null || dataLocation.isBlank() ? "~/.orekit-data" : dataLocation);
+        status.put("frozen", frozen);
+        status.put("totalWarmupMs", totalWarmupMs);
+        status.put("timingsMs", new LinkedHashMap<>(warmupTimings));
+        if (failure != null) status.put("error", failure);
+        return status;
+    }
+}
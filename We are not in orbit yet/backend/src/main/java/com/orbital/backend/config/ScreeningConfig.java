@@ -0,0 +1,30 @@
+package com.orbital.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.orbital.backend.service.ScalarScreeningKernel;
+import com.orbital.backend.service.ScreeningKernel;
+
+@Configuration
+public class ScreeningConfig {
+
+    // Compiled separately from src/simd/java, so only referenced by name
+    private static final String VECTOR_KERNEL = "com.orbital.backend.service.VectorScreeningKernel";
+
+    // Uses the SIMD kernel when the JVM was started with the incubator module, otherwise the scalar loop
+    @Bean
+    public ScreeningKernel screeningKernel(@Value("${orbital.screening.simd:true}") boolean simd) {
+        if (simd) {
+            try {
+                ScreeningKernel kernel = (ScreeningKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+                System.out.println("Screening kernel: " + kernel.name());
+                return kernel;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                System.out.println("Vector API unavailable (start with --add-modules jdk.incubator.vector), using scalar kernel");
+            }
+        }
+        return new ScalarScreeningKernel();
+    }
+}
@@ -1,5 +1,7 @@
 package com.orbital.backend.model;
 
+import java.time.Instant;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -19,6 +21,8 @@ public class Satellite {
 
     private String name;
 
+    private Integer noradId;
+
     @Column(length = 100)
     private String line1;
 
@@ -26,4 +30,7 @@ public class Satellite {
     private String line2;
 
     private String type;
+
+    // Epoch of the newest version written to tle_history, so ingest never has to scan the history table
+    private Instant tleEpoch;
 }
\ No newline at end of file
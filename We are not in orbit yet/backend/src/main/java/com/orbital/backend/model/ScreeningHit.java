@@ -0,0 +1,50 @@
+package com.orbital.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// A conjunction found by a shard worker, merged by the coordinator per run
+@Entity
+@Data
+@Table(name = "screening_hit", indexes = {
+        @Index(name = "idx_screening_hit_run", columnList = "run_id"),
+        @Index(name = "idx_screening_hit_shard", columnList = "shard_id")
+})
+public class ScreeningHit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "shard_id", nullable = false)
+    private Long shardId;
+
+    private String objectName;
+
+    private Integer noradId;
+
+    private String type;
+
+    private double distance;
+
+    private double rangeRate;
+
+    private String timeOfApproach;
+
+    private double hoursFromNow;
+
+    // Set when the shard worker re-propagated this conjunction numerically
+    private Double refinedDistance;
+
+    @Column(length = 16)
+    private String fidelity;
+}
@@ -0,0 +1,64 @@
+package com.orbital.backend.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// One unit of distributed screening work: a NORAD id range screened over a fixed window
+@Entity
+@Data
+@Table(name = "screening_shard", indexes = {
+        @Index(name = "idx_screening_shard_status", columnList = "status, id"),
+        @Index(name = "idx_screening_shard_run", columnList = "run_id")
+})
+public class ScreeningShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+
+    private int shardIndex;
+
+    // NORAD id range [noradFrom, noradTo)
+    private int noradFrom;
+
+    private int noradTo;
+
+    @Column(nullable = false)
+    private Instant windowStart;
+
+    // Newest TLE epoch of the coordinator's catalog; workers with an older catalog reload before screening
+    private Instant catalogEpoch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ShardStatus status;
+
+    private String workerId;
+
+    // New for every claim; completing or releasing a shard requires the token of the claim that is still current
+    @Column(length = 36)
+    private String claimToken;
+
+    private Instant claimedAt;
+
+    private Instant completedAt;
+
+    private int attempts;
+
+    private int hitCount;
+
+    private long computeMs;
+}
@@ -0,0 +1,8 @@
+package com.orbital.backend.model;
+
+public enum ShardStatus {
+    PENDING,
+    CLAIMED,
+    DONE,
+    FAILED
+}
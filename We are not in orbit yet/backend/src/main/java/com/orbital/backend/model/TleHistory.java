@@ -0,0 +1,40 @@
+package com.orbital.backend.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+// Append-only TLE versions, one row per (NORAD id, epoch); only the element lines are stored
+@Entity
+@Data
+@Table(name = "tle_history",
+        indexes = @Index(name = "idx_tle_history_norad_epoch", columnList = "norad_id, epoch"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"norad_id", "epoch"}))
+public class TleHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "norad_id", nullable = false)
+    private Integer noradId;
+
+    @Column(nullable = false)
+    private Instant epoch;
+
+    @Column(length = 69, nullable = false)
+    private String line1;
+
+    @Column(length = 69, nullable = false)
+    private String line2;
+
+    private Instant ingestedAt;
+}
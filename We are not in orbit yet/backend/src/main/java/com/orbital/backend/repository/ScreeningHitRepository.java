@@ -0,0 +1,22 @@
+package com.orbital.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.orbital.backend.model.ScreeningHit;
+
+@Repository
+public interface ScreeningHitRepository extends JpaRepository<ScreeningHit, Long> {
+
+    List<ScreeningHit> findByRunIdOrderByHoursFromNowAscDistanceAsc(String runId);
+
+    // Clears a previous attempt's output so a reassigned shard completes idempotently
+    @Modifying
+    @Query("delete from ScreeningHit h where h.shardId = :shardId")
+    int deleteByShard(@Param("shardId") Long shardId);
+}
@@ -0,0 +1,58 @@
+package com.orbital.backend.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbital.backend.model.ScreeningShard;
+import com.orbital.backend.model.ShardStatus;
+
+@Repository
+public interface ScreeningShardRepository extends JpaRepository<ScreeningShard, Long> {
+
+    // Work-queue pop: concurrent workers skip rows another transaction already holds
+    @Query(value = "SELECT * FROM screening_shard WHERE status = 'PENDING' ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<ScreeningShard> lockNextPending();
+
+    List<ScreeningShard> findByRunIdOrderByShardIndex(String runId);
+
+    // Compare-and-set on the claim: matches only while the caller's claim is still the current one
+    @Modifying
+    @Transactional
+    @Query("update ScreeningShard s set s.status = :done, s.completedAt = :completedAt, s.hitCount = :hitCount, "
+            + "s.computeMs = :computeMs, s.claimToken = null "
+            + "where s.id = :id and s.status = :claimed and s.claimToken = :token")
+    int completeClaim(@Param("id") Long id, @Param("token") String token, @Param("completedAt") Instant completedAt,
+                      @Param("hitCount") int hitCount, @Param("computeMs") long computeMs,
+                      @Param("claimed") ShardStatus claimed, @Param("done") ShardStatus done);
+
+    @Modifying
+    @Transactional
+    @Query("update ScreeningShard s set s.status = :next, s.workerId = null, s.claimToken = null "
+            + "where s.id = :id and s.status = :claimed and s.claimToken = :token")
+    int releaseClaim(@Param("id") Long id, @Param("token") String token,
+                     @Param("claimed") ShardStatus claimed, @Param("next") ShardStatus next);
+
+    // Expired leases go back to the queue, or fail once they have used up their attempts
+    @Modifying
+    @Transactional
+    @Query("update ScreeningShard s set s.status = :next, s.workerId = null, s.claimToken = null "
+            + "where s.status = :claimed and s.claimedAt < :cutoff and s.attempts < :maxAttempts")
+    int requeueExpired(@Param("cutoff") Instant cutoff, @Param("maxAttempts") int maxAttempts,
+                       @Param("claimed") ShardStatus claimed, @Param("next") ShardStatus next);
+
+    @Modifying
+    @Transactional
+    @Query("update ScreeningShard s set s.status = :failed, s.claimToken = null "
+            + "where s.status = :claimed and s.claimedAt < :cutoff and s.attempts >= :maxAttempts")
+    int failExpired(@Param("cutoff") Instant cutoff, @Param("maxAttempts") int maxAttempts,
+                    @Param("claimed") ShardStatus claimed, @Param("failed") ShardStatus failed);
+}
@@ -0,0 +1,46 @@
+package com.orbital.backend.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbital.backend.model.TleHistory;
+
+@Repository
+public interface TleHistoryRepository extends JpaRepository<TleHistory, Long> {
+
+    // Latest version at or before the requested time
+    Optional<TleHistory> findFirstByNoradIdAndEpochLessThanEqualOrderByEpochDesc(Integer noradId, Instant epoch);
+
+    // Earliest version after the requested time
+    Optional<TleHistory> findFirstByNoradIdAndEpochGreaterThanOrderByEpochAsc(Integer noradId, Instant epoch);
+
+    List<TleHistory> findByNoradIdAndEpochBetweenOrderByEpochAsc(Integer noradId, Instant from, Instant to);
+
+    long countByNoradId(Integer noradId);
+
+    // Index lookup used only for objects that have no recorded epoch yet
+    boolean existsByNoradIdAndEpoch(Integer noradId, Instant epoch);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TleHistory h where h.epoch < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+
+    // Thins old history to the latest epoch per object per UTC day; ingestion order does not matter,
+    // so a late backfill cannot displace a newer element set
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tle_history WHERE epoch < :cutoff AND id NOT IN ("
+            + "SELECT DISTINCT ON (norad_id, CAST(epoch AT TIME ZONE 'UTC' AS date)) id FROM tle_history "
+            + "WHERE epoch < :cutoff "
+            + "ORDER BY norad_id, CAST(epoch AT TIME ZONE 'UTC' AS date), epoch DESC, id DESC)", nativeQuery = true)
+    int compactOlderThan(@Param("cutoff") Instant cutoff);
+}
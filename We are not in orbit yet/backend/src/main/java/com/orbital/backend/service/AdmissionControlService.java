@@ -0,0 +1,95 @@
+package com.orbital.backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Keeps propagation-heavy endpoints off the Tomcat threads so cheap endpoints stay responsive
+@Service
+public class AdmissionControlService {
+
+    public static final String POSITIONS = "positions";
+    public static final String SCREENING = "screening";
+    public static final String WHAT_IF = "what-if";
+    public static final String SYNC = "sync";
+
+    @Value("${orbital.admission.positions.threads:4}")
+    private int positionsThreads;
+
+    @Value("${orbital.admission.positions.queue-capacity:32}")
+    private int positionsQueue;
+
+    @Value("${orbital.admission.positions.max-concurrency:24}")
+    private int positionsMaxLimit;
+
+    @Value("${orbital.admission.screening.threads:2}")
+    private int screeningThreads;
+
+    @Value("${orbital.admission.screening.queue-capacity:4}")
+    private int screeningQueue;
+
+    @Value("${orbital.admission.screening.max-concurrency:4}")
+    private int screeningMaxLimit;
+
+    @Value("${orbital.admission.what-if.threads:2}")
+    private int whatIfThreads;
+
+    @Value("${orbital.admission.what-if.queue-capacity:4}")
+    private int whatIfQueue;
+
+    @Value("${orbital.admission.what-if.max-concurrency:4}")
+    private int whatIfMaxLimit;
+
+    // How long a client waits on /sync; a full catalog sync can outlast the default async request timeout
+    @Value("${orbital.admission.sync.timeout-ms:600000}")
+    private long syncTimeoutMs;
+
+    @Value("${orbital.admission.min-concurrency:1}")
+    private int minLimit;
+
+    @Value("${orbital.admission.max-queue-wait-ms:10000}")
+    private long maxQueueWaitMs;
+
+    @Value("${orbital.admission.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        bulkheads.put(POSITIONS, new Bulkhead(POSITIONS, positionsThreads, positionsQueue, minLimit,
+                positionsMaxLimit, maxQueueWaitMs, retryAfterSeconds));
+        bulkheads.put(SCREENING, new Bulkhead(SCREENING, screeningThreads, screeningQueue, minLimit,
+                screeningMaxLimit, maxQueueWaitMs, retryAfterSeconds));
+        bulkheads.put(WHAT_IF, new Bulkhead(WHAT_IF, whatIfThreads, whatIfQueue, minLimit,
+                whatIfMaxLimit, maxQueueWaitMs, retryAfterSeconds));
+        // Syncs write the whole catalog, so only one runs at a time and a second is turned away
+        bulkheads.put(SYNC, new Bulkhead(SYNC, 1, 1, 1, 1, maxQueueWaitMs, retryAfterSeconds));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+
+    public <T> CompletableFuture<T> submit(String bulkhead, Supplier<T> task) {
+        return bulkheads.get(bulkhead).submit(task);
+    }
+
+    public long getSyncTimeoutMs() {
+        return syncTimeoutMs;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        bulkheads.forEach((name, bulkhead) -> stats.put(name, bulkhead.getStats()));
+        return stats;
+    }
+}
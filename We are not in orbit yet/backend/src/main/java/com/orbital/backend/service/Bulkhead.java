@@ -0,0 +1,153 @@
+package com.orbital.backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+
+// One endpoint class: its own bounded pool plus a concurrency limit that adapts to observed latency.
+// The limit follows the gradient between short- and long-term average latency, so a mix of fast and slow
+// tasks on one bulkhead does not read as congestion the way a minimum-latency baseline would.
+public class Bulkhead {
+
+    // Short-term latency may reach tolerance * long-term before the limit shrinks
+    private static final double LATENCY_TOLERANCE = 2.0;
+    // Samples averaged by the short- and long-term exponential moving averages
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 200;
+    // Never shrink by more than half in one sample, and blend each new limit in gradually
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxQueueWaitMs;
+    private final long retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong shed = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    private double limit;
+    private double shortLatencyNanos;
+    private double longLatencyNanos;
+
+    public Bulkhead(String name, int threads, int queueCapacity, int minLimit, int maxLimit,
+                    long maxQueueWaitMs, long retryAfterSeconds) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 429 when over the adaptive limit, 503 when the queue is full or a task waited too long to start
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (inFlight.incrementAndGet() > currentLimit()) {
+            inFlight.decrementAndGet();
+            throttled.incrementAndGet();
+            throw new OverloadedException(name + " concurrency limit reached", HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds);
+        }
+
+        long queuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    long startedAt = System.nanoTime();
+                    if (TimeUnit.NANOSECONDS.toMillis(startedAt - queuedAt) > maxQueueWaitMs) {
+                        shed.incrementAndGet();
+                        result.completeExceptionally(new OverloadedException(name + " queue wait exceeded",
+                                HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds));
+                        return;
+                    }
+                    T value = task.get();
+                    onSample(System.nanoTime() - startedAt);
+                    result.complete(value);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            shed.incrementAndGet();
+            throw new OverloadedException(name + " queue is full", HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds);
+        }
+        return result;
+    }
+
+    private synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    // Only tasks that ran are sampled; callers served from SnapshotCache never reach the bulkhead
+    private synchronized void onSample(long latencyNanos) {
+        completed.incrementAndGet();
+        totalLatencyNanos.addAndGet(latencyNanos);
+
+        if (longLatencyNanos == 0) {
+            shortLatencyNanos = latencyNanos;
+            longLatencyNanos = latencyNanos;
+            return;
+        }
+        shortLatencyNanos += (latencyNanos - shortLatencyNanos) / SHORT_WINDOW;
+        longLatencyNanos += (latencyNanos - longLatencyNanos) / LONG_WINDOW;
+
+        // Once load eases, pull the long-term average down so sustained overload is not learned as normal
+        if (longLatencyNanos > shortLatencyNanos * LATENCY_TOLERANCE) {
+            longLatencyNanos *= 0.95;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, LATENCY_TOLERANCE * longLatencyNanos / shortLatencyNanos));
+        double target = limit * gradient;
+        // Headroom to grow only while the limit is actually being used
+        if (gradient >= 1.0 && inFlight.get() >= limit / 2) {
+            target += Math.sqrt(limit);
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long done = completed.get();
+        stats.put("limit", (int) limit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("completed", done);
+        stats.put("rejected429", throttled.get());
+        stats.put("rejected503", shed.get());
+        stats.put("avgLatencyMs", done == 0 ? 0.0 : Math.round(totalLatencyNanos.get() / (double) done / 1e5) / 10.0);
+        stats.put("shortLatencyMs", Math.round(shortLatencyNanos / 1e5) / 10.0);
+        stats.put("longLatencyMs", Math.round(longLatencyNanos / 1e5) / 10.0);
+        return stats;
+    }
+}
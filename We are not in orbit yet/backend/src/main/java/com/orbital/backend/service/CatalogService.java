@@ -0,0 +1,61 @@
+package com.orbital.backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import com.orbital.backend.repository.SatelliteRepository;
+
+// Holds the current catalog snapshot; readers never touch the database on the hot path
+@Service
+public class CatalogService {
+
+    private final SatelliteRepository repository;
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>(CatalogSnapshot.empty());
+
+    public CatalogService(SatelliteRepository repository) {
+        this.repository = repository;
+    }
+
+    public CatalogSnapshot snapshot() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void onStartup() {
+        rebuild();
+    }
+
+    // Runs before other sync listeners so they see the refreshed catalog
+    @EventListener
+    @Order(0)
+    public void onTleSync(TleSyncEvent event) {
+        rebuild();
+    }
+
+    // Copy-on-write: build the new snapshot aside, then swap it in with a single reference write
+    public synchronized CatalogSnapshot rebuild() {
+        CatalogSnapshot next = CatalogSnapshot.build(current.get().version() + 1, repository.findAll());
+        current.set(next);
+        System.out.println("Catalog snapshot v" + next.version() + ": " + next.size() + " objects ("
+                + next.buildMillis() + "ms, ~" + next.estimatedBytes() / 1024 + " KiB)");
+        return next;
+    }
+
+    public Map<String, Object> getStats() {
+        CatalogSnapshot snapshot = current.get();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("version", snapshot.version());
+        stats.put("objects", snapshot.size());
+        stats.put("builtAt", snapshot.builtAt().toString());
+        stats.put("rebuildMs", snapshot.buildMillis());
+        stats.put("estimatedBytes", snapshot.estimatedBytes());
+        return stats;
+    }
+}
@@ -0,0 +1,214 @@
+package com.orbital.backend.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+import com.orbital.backend.model.Satellite;
+
+// Immutable, array-backed view of the whole catalog; slot i describes the same object in every array
+public final class CatalogSnapshot {
+
+    // Rough per-object cost of a parsed Orekit TLE (fields, date and boxed parameter drivers)
+    private static final long TLE_BYTES_ESTIMATE = 512;
+
+    private final long version;
+    private final Instant builtAt;
+    private final long buildMillis;
+
+    // Newest TLE epoch in the catalog; unlike version it is derived from the data, so instances sharing
+    // a database can compare it (null when no TLE parses)
+    private final Instant latestEpoch;
+
+    private final long[] ids;          // sorted ascending, so id -> index is a binary search
+    private final int[] noradIds;
+    private final String[] names;
+    private final String[] types;
+    private final String[] line1s;
+    private final String[] line2s;
+    private final TLE[] tles;          // null where the stored lines do not parse
+
+    // NORAD id -> index without boxing: sorted keys with the matching slot numbers
+    private final int[] noradKeys;
+    private final int[] noradSlots;
+
+    private final long estimatedBytes;
+
+    private CatalogSnapshot(long version, Instant builtAt, long buildMillis, Instant latestEpoch, long[] ids,
+                            int[] noradIds, String[] names, String[] types, String[] line1s, String[] line2s,
+                            TLE[] tles, int[] noradKeys, int[] noradSlots) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.buildMillis = buildMillis;
+        this.latestEpoch = latestEpoch;
+        this.ids = ids;
+        this.noradIds = noradIds;
+        this.names = names;
+        this.types = types;
+        this.line1s = line1s;
+        this.line2s = line2s;
+        this.tles = tles;
+        this.noradKeys = noradKeys;
+        this.noradSlots = noradSlots;
+        this.estimatedBytes = estimateBytes();
+    }
+
+    public static CatalogSnapshot empty() {
+        return build(0, List.of());
+    }
+
+    public static CatalogSnapshot build(long version, List<Satellite> satellites) {
+        long start = System.currentTimeMillis();
+        Satellite[] sorted = satellites.toArray(new Satellite[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(Satellite::getId));
+
+        int n = sorted.length;
+        long[] ids = new long[n];
+        int[] noradIds = new int[n];
+        String[] names = new String[n];
+        String[] types = new String[n];
+        String[] line1s = new String[n];
+        String[] line2s = new String[n];
+        TLE[] tles = new TLE[n];
+
+        int withNorad = 0;
+        AbsoluteDate latest = null;
+        for (int i = 0; i < n; i++) {
+            Satellite sat = sorted[i];
+            ids[i] = sat.getId();
+            names[i] = sat.getName();
+            types[i] = sat.getType();
+            line1s[i] = sat.getLine1();
+            line2s[i] = sat.getLine2();
+            try {
+                tles[i] = new TLE(sat.getLine1(), sat.getLine2());
+            } catch (Exception e) {
+                tles[i] = null;
+            }
+            if (tles[i] != null && (latest == null || tles[i].getDate().compareTo(latest) > 0)) {
+                latest = tles[i].getDate();
+            }
+            Integer norad = sat.getNoradId();
+            if (norad == null && tles[i] != null) norad = tles[i].getSatelliteNumber();
+            noradIds[i] = norad != null ? norad : -1;
+            if (noradIds[i] >= 0) withNorad++;
+        }
+
+        // Pack (noradId, slot) into longs so one primitive sort orders both arrays
+        long[] packed = new long[withNorad];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (noradIds[i] >= 0) packed[k++] = ((long) noradIds[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] noradKeys = new int[withNorad];
+        int[] noradSlots = new int[withNorad];
+        for (int i = 0; i < withNorad; i++) {
+            noradKeys[i] = (int) (packed[i] >>> 32);
+            noradSlots[i] = (int) packed[i];
+        }
+
+        Instant latestEpoch = latest == null ? null : latest.toDate(TimeScalesFactory.getUTC()).toInstant();
+        return new CatalogSnapshot(version, Instant.now(), System.currentTimeMillis() - start, latestEpoch, ids,
+                noradIds, names, types, line1s, line2s, tles, noradKeys, noradSlots);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public long buildMillis() {
+        return buildMillis;
+    }
+
+    public Instant latestEpoch() {
+        return latestEpoch;
+    }
+
+    public long id(int i) {
+        return ids[i];
+    }
+
+    public int noradId(int i) {
+        return noradIds[i];
+    }
+
+    public String name(int i) {
+        return names[i];
+    }
+
+    public String type(int i) {
+        return types[i];
+    }
+
+    public TLE tle(int i) {
+        return tles[i];
+    }
+
+    public int indexOfId(long id) {
+        int i = Arrays.binarySearch(ids, id);
+        return i >= 0 ? i : -1;
+    }
+
+    public int indexOfNoradId(int noradId) {
+        int i = Arrays.binarySearch(noradKeys, noradId);
+        return i >= 0 ? noradSlots[i] : -1;
+    }
+
+    // First object (in id order) whose upper-cased name contains any of the fragments
+    public int indexOfNameContaining(String... fragments) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null) continue;
+            String name = names[i].toUpperCase();
+            for (String fragment : fragments) {
+                if (name.contains(fragment)) return i;
+            }
+        }
+        return -1;
+    }
+
+    // Detached entity for APIs that still take a Satellite
+    public Satellite toSatellite(int i) {
+        Satellite sat = new Satellite();
+        sat.setId(ids[i]);
+        sat.setNoradId(noradIds[i] >= 0 ? noradIds[i] : null);
+        sat.setName(names[i]);
+        sat.setType(types[i]);
+        sat.setLine1(line1s[i]);
+        sat.setLine2(line2s[i]);
+        return sat;
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private long estimateBytes() {
+        int n = ids.length;
+        // Primitive arrays plus the reference arrays themselves
+        long bytes = (long) n * (8 + 4) + (long) noradKeys.length * (4 + 4) + (long) n * 5 * 4;
+        for (int i = 0; i < n; i++) {
+            bytes += stringBytes(names[i]) + stringBytes(types[i]) + stringBytes(line1s[i]) + stringBytes(line2s[i]);
+            if (tles[i] != null) bytes += TLE_BYTES_ESTIMATE;
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String s) {
+        // Compact (Latin-1) string: object header + fields + backing byte[]
+        return s == null ? 0 : 24 + 16 + s.length();
+    }
+}
@@ -0,0 +1,101 @@
+package com.orbital.backend.service;
+
+// Closest approach between two sampled states, from a cubic Hermite fit of the relative motion.
+// rel holds the relative position (m) and velocity (m/s) at both ends of the interval:
+// r0 at [0..3), v0 at [3..6), r1 at [6..9), v1 at [9..12).
+final class ClosestApproach {
+
+    private static final int COARSE_SAMPLES = 8;
+    private static final int GOLDEN_ITERATIONS = 40;
+    private static final double INV_PHI = (Math.sqrt(5.0) - 1.0) / 2.0;
+    // Largest value of |h10| and |h11| on [0, 1]
+    private static final double HERMITE_BOUND = 4.0 / 27.0;
+
+    private ClosestApproach() {
+    }
+
+    // The range-rate r.v changes sign from closing to opening somewhere inside the interval
+    static boolean passesThrough(double[] rel) {
+        double closing = rel[0] * rel[3] + rel[1] * rel[4] + rel[2] * rel[5];
+        double opening = rel[6] * rel[9] + rel[7] * rel[10] + rel[8] * rel[11];
+        return closing < 0 && opening >= 0;
+    }
+
+    // Cheap lower bound on the miss distance (m): distance to the chord minus how far the cubic can leave it
+    static double lowerBound(double[] rel, double dt) {
+        double cx = rel[6] - rel[0];
+        double cy = rel[7] - rel[1];
+        double cz = rel[8] - rel[2];
+        double c2 = cx * cx + cy * cy + cz * cz;
+        double s = c2 == 0 ? 0 : Math.max(0, Math.min(1, -(rel[0] * cx + rel[1] * cy + rel[2] * cz) / c2));
+        double chordX = rel[0] + s * cx;
+        double chordY = rel[1] + s * cy;
+        double chordZ = rel[2] + s * cz;
+
+        double a = Math.sqrt(sq(dt * rel[3] - cx) + sq(dt * rel[4] - cy) + sq(dt * rel[5] - cz));
+        double b = Math.sqrt(sq(dt * rel[9] - cx) + sq(dt * rel[10] - cy) + sq(dt * rel[11] - cz));
+        return Math.sqrt(chordX * chordX + chordY * chordY + chordZ * chordZ) - HERMITE_BOUND * (a + b);
+    }
+
+    // Squared miss distance (m^2) over the interval; its offset from the start (s) goes to tca[0]
+    static double minimumSq(double[] rel, double dt, double[] tca) {
+        // Bracket the minimum on a coarse grid, then narrow it down with a golden-section search
+        int best = 0;
+        double bestSq = Double.MAX_VALUE;
+        for (int k = 0; k <= COARSE_SAMPLES; k++) {
+            double d2 = distanceSq(rel, dt, (double) k / COARSE_SAMPLES);
+            if (d2 < bestSq) {
+                bestSq = d2;
+                best = k;
+            }
+        }
+
+        double lo = Math.max(0, (best - 1.0) / COARSE_SAMPLES);
+        double hi = Math.min(1, (best + 1.0) / COARSE_SAMPLES);
+        double x1 = hi - INV_PHI * (hi - lo);
+        double x2 = lo + INV_PHI * (hi - lo);
+        double f1 = distanceSq(rel, dt, x1);
+        double f2 = distanceSq(rel, dt, x2);
+        for (int i = 0; i < GOLDEN_ITERATIONS; i++) {
+            if (f1 < f2) {
+                hi = x2;
+                x2 = x1;
+                f2 = f1;
+                x1 = hi - INV_PHI * (hi - lo);
+                f1 = distanceSq(rel, dt, x1);
+            } else {
+                lo = x1;
+                x1 = x2;
+                f1 = f2;
+                x2 = lo + INV_PHI * (hi - lo);
+                f2 = distanceSq(rel, dt, x2);
+            }
+        }
+
+        double s = (lo + hi) / 2;
+        double d2 = distanceSq(rel, dt, s);
+        if (bestSq < d2) {
+            d2 = bestSq;
+            s = (double) best / COARSE_SAMPLES;
+        }
+        tca[0] = s * dt;
+        return d2;
+    }
+
+    private static double distanceSq(double[] rel, double dt, double s) {
+        double s2 = s * s;
+        double s3 = s2 * s;
+        double h00 = 2 * s3 - 3 * s2 + 1;
+        double h10 = (s3 - 2 * s2 + s) * dt;
+        double h01 = -2 * s3 + 3 * s2;
+        double h11 = (s3 - s2) * dt;
+        double x = h00 * rel[0] + h10 * rel[3] + h01 * rel[6] + h11 * rel[9];
+        double y = h00 * rel[1] + h10 * rel[4] + h01 * rel[7] + h11 * rel[10];
+        double z = h00 * rel[2] + h10 * rel[5] + h01 * rel[8] + h11 * rel[11];
+        return x * x + y * y + z * z;
+    }
+
+    private static double sq(double v) {
+        return v * v;
+    }
+}
@@ -1,37 +1,75 @@
 package com.orbital.backend.service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.orekit.propagation.analytical.tle.TLE;
 import org.orekit.propagation.analytical.tle.TLEPropagator;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.PVCoordinates;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.orbital.backend.model.Satellite;
-import com.orbital.backend.repository.SatelliteRepository;
 
 @Service
 public class CollisionDetectionService {
 
-    private final SatelliteRepository repository;
-    private final OrbitalMechanicsService orbitalService;
+    private final CatalogService catalogService;
+    private final PropagationService propagationService;
+    private final EphemerisKernel ephemerisKernel;
+    private final ScreeningKernel screeningKernel;
     
     private static final double COLLISION_THRESHOLD_KM = 50.0;
     private static final int PREDICTION_HOURS = 24;
     private static final int INTERVAL_MINUTES = 10;
+    private static final double WINDOW_SECONDS = PREDICTION_HOURS * 3600.0;
+
+    // Upper bound on conjunctions refined with the numerical propagator per screening run
+    @Value("${orbital.propagation.numerical.max-refinements:20}")
+    private int maxRefinements;
+
+    public CollisionDetectionService(CatalogService catalogService, PropagationService propagationService,
+                                     EphemerisKernel ephemerisKernel, ScreeningKernel screeningKernel) {
+        this.catalogService = catalogService;
+        this.propagationService = propagationService;
+        this.ephemerisKernel = ephemerisKernel;
+        this.screeningKernel = screeningKernel;
+    }
+
+    // Objects passing within this range of the primary, at a screening step or between two, are its neighbourhood
+    @Value("${orbital.maneuver.neighbourhood-km:200}")
+    private double neighbourhoodKm;
+
+    private volatile ScreeningNeighbourhood lastNeighbourhood;
+
+    private record Candidate(Map<String, Object> warning, Satellite object, double secondsFromNow) {}
+
+    // Output of one screening pass; nearby is indexed by catalog slot
+    private record ScreeningPass(List<Map<String, Object>> warnings, List<Candidate> candidates, boolean[] nearby) {}
 
-    public CollisionDetectionService(SatelliteRepository repository, OrbitalMechanicsService orbitalService) {
-        this.repository = repository;
-        this.orbitalService = orbitalService;
+    // Secondaries that came near the primary in the last screening run, by NORAD id
+    public record ScreeningNeighbourhood(int primaryNoradId, int[] secondaryNoradIds, AbsoluteDate windowStart,
+                                         double windowSeconds) {}
+
+    public ScreeningNeighbourhood getLastNeighbourhood() {
+        return lastNeighbourhood;
     }
 
     // Professional Conjunction Analysis: 24-hour temporal prediction
     public List<Map<String, Object>> getIssConjunctions() {
+        return getIssConjunctions(new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC()));
+    }
+
+    // Same analysis with the window starting at a given instant (callers may quantise "now")
+    public List<Map<String, Object>> getIssConjunctions(AbsoluteDate startDate) {
         List<Map<String, Object>> warnings = new ArrayList<>();
         
         try {
@@ -39,59 +77,25 @@ public class CollisionDetectionService {
             long startTime = System.currentTimeMillis();
 
             // Finding ISS (Zarya module)
-            Satellite iss = repository.findAll().stream()
-                .filter(sat -> sat.getName().toUpperCase().contains("ISS") || 
-                              sat.getName().toUpperCase().contains("ZARYA"))
-                .findFirst()
-                .orElse(null);
+            CatalogSnapshot catalog = catalogService.snapshot();
+            int issIndex = catalog.indexOfNameContaining("ISS", "ZARYA");
 
-            if (iss == null) {
+            if (issIndex < 0) {
                 System.out.println("ISS not found in database");
                 return warnings;
             }
+            Satellite iss = catalog.toSatellite(issIndex);
 
-            // Fetching all debris and active satellites
-            List<Satellite> allObjects = repository.findAll();
-            System.out.println("Checking " + allObjects.size() + " objects against ISS trajectory...");
-
-            // Time step: 10 minutes = 600 seconds
-            int totalSteps = (PREDICTION_HOURS * 60) / INTERVAL_MINUTES; // 144 steps for 24 hours
-            int intervalSeconds = INTERVAL_MINUTES * 60;
-
-            // O(n) optimization: ISS vs Everything (not Everything vs Everything)
-            for (int step = 0; step < totalSteps; step++) {
-                double secondsFromNow = step * intervalSeconds;
-
-                // Propagate ISS position to future timestamp
-                Map<String, Object> issData = orbitalService.getFuturePosition(iss, secondsFromNow);
-                if (issData == null) continue;
-
-                Vector3D issPosition = (Vector3D) issData.get("position");
-                String timestamp = (String) issData.get("timestamp");
-
-                // Checking all objects at this timestamp
-                for (Satellite obj : allObjects) {
-                    // Skipping if it's the same physical satellite
-                    if (obj.getId().equals(iss.getId())) continue;
-
-                    Map<String, Object> objData = orbitalService.getFuturePosition(obj, secondsFromNow);
-                    if (objData == null) continue;
-
-                    Vector3D objPosition = (Vector3D) objData.get("position");
-                    double distance = Vector3D.distance(issPosition, objPosition) / 1000.0; // km
-
-                    // Filtering out zero distance and applying threshold
-                    if (distance > 0.1 && distance <= COLLISION_THRESHOLD_KM) {
-                        Map<String, Object> warning = new HashMap<>();
-                        warning.put("object", obj.getName());
-                        warning.put("type", obj.getType());
-                        warning.put("distance", Math.round(distance * 100.0) / 100.0);
-                        warning.put("timeOfApproach", timestamp);
-                        warning.put("hoursFromNow", Math.round((secondsFromNow / 3600.0) * 10.0) / 10.0);
-                        warnings.add(warning);
-                    }
-                }
-            }
+            // All debris and active satellites come from the in-memory catalog
+            System.out.println("Checking " + catalog.size() + " objects against ISS trajectory...");
+
+            ScreeningPass pass = screen(catalog, issIndex, null, startDate);
+            warnings.addAll(pass.warnings());
+
+            lastNeighbourhood = toNeighbourhood(catalog, issIndex, pass.nearby(), startDate, WINDOW_SECONDS);
+
+            // Spend high fidelity only on what passed SGP4 screening
+            refineConjunctions(iss, pass.candidates(), startDate, INTERVAL_MINUTES * 60.0);
 
             long duration = System.currentTimeMillis() - startTime;
             System.out.println("Conjunction analysis complete: " + warnings.size() + 
@@ -110,60 +114,316 @@ public class CollisionDetectionService {
         return warnings;
     }
 
-    // Legacy method for real-time checks
-    public List<Map<String, Object>> checkISSCollisions() {
-        List<Map<String, Object>> threats = new ArrayList<>();
-        
-        try {
-            Satellite iss = repository.findAll().stream()
-                .filter(sat -> sat.getName().toUpperCase().contains("ISS"))
-                .findFirst()
-                .orElse(null);
+    // One screening pass of the primary against the given catalog slots (null = whole catalog)
+    private ScreeningPass screen(CatalogSnapshot catalog, int issIndex, int[] subset, AbsoluteDate startDate) {
+        List<Map<String, Object>> warnings = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>();
+
+        // Time step: 10 minutes = 600 seconds
+        int totalSteps = (PREDICTION_HOURS * 60) / INTERVAL_MINUTES; // 144 steps for 24 hours
+        int intervalSeconds = INTERVAL_MINUTES * 60;
+
+        // Parse every TLE once up front, then reuse the propagators for all steps
+        TLEPropagator[] issPropagator = { ephemerisKernel.createPropagator(catalog.tle(issIndex)) };
+        TLEPropagator[] propagators = subset == null
+            ? ephemerisKernel.createPropagators(catalog)
+            : ephemerisKernel.createPropagators(catalog, subset);
+        EphemerisBuffer issState = new EphemerisBuffer(1);
+        EphemerisBuffer states = new EphemerisBuffer(propagators.length);
+        EphemerisBuffer previous = new EphemerisBuffer(propagators.length);
+        double[] primary = new double[6];
+        double[] previousPrimary = new double[6];
+        boolean hasPrevious = false;
+        double[] rel = new double[12];
+        double[] tca = new double[1];
+        int[] hits = new int[propagators.length];
+        double[] hitDistanceSq = new double[propagators.length];
+        double[] hitRangeRate = new double[propagators.length];
+
+        double minDistanceSq = 100.0 * 100.0; // 0.1 km in metres
+        double maxDistanceSq = COLLISION_THRESHOLD_KM * 1000.0 * COLLISION_THRESHOLD_KM * 1000.0;
+
+        // Screen out to the wider neighbourhood radius so what-if runs can reuse the result
+        double neighbourhoodM = Math.max(neighbourhoodKm, COLLISION_THRESHOLD_KM) * 1000.0;
+        double neighbourhoodSq = neighbourhoodM * neighbourhoodM;
+        boolean[] nearby = new boolean[catalog.size()];
+
+        // O(n) optimization: ISS vs Everything (not Everything vs Everything)
+        for (int step = 0; step < totalSteps; step++) {
+            double secondsFromNow = step * intervalSeconds;
+            AbsoluteDate date = startDate.shiftedBy(secondsFromNow);
+
+            // Propagate ISS position to future timestamp
+            ephemerisKernel.propagate(issPropagator, date, issState, false);
+            if (!issState.valid[0]) {
+                hasPrevious = false;
+                continue;
+            }
 
-            if (iss == null) return threats;
+            // Propagating all objects at this timestamp into the shared buffer
+            ephemerisKernel.propagate(propagators, date, states, false);
+            primary[0] = issState.x[0];
+            primary[1] = issState.y[0];
+            primary[2] = issState.z[0];
+            primary[3] = issState.vx[0];
+            primary[4] = issState.vy[0];
+            primary[5] = issState.vz[0];
+
+            // Filtering out zero distance and applying threshold (compared squared, no sqrt per object)
+            int found = screeningKernel.screen(states, propagators.length, primary, minDistanceSq, neighbourhoodSq,
+                    hits, hitDistanceSq, hitRangeRate);
+            String timestamp = null;
+
+            for (int k = 0; k < found; k++) {
+                int i = subset == null ? hits[k] : subset[hits[k]];
+
+                // Skipping if it's the same physical satellite
+                if (i == issIndex) continue;
+
+                nearby[i] = true;
+                if (hitDistanceSq[k] > maxDistanceSq) continue;
+
+                double distance = Math.sqrt(hitDistanceSq[k]) / 1000.0; // km
+                if (timestamp == null) timestamp = date.toString();
+
+                Map<String, Object> warning = new HashMap<>();
+                warning.put("object", catalog.name(i));
+                warning.put("noradId", catalog.noradId(i));
+                warning.put("type", catalog.type(i));
+                warning.put("distance", Math.round(distance * 100.0) / 100.0);
+                warning.put("rangeRate", Math.round(hitRangeRate[k] / 10.0) / 100.0); // km/s, positive = separating
+                warning.put("timeOfApproach", timestamp);
+                warning.put("hoursFromNow", Math.round((secondsFromNow / 3600.0) * 10.0) / 10.0);
+                warning.put("fidelity", PropagationService.Fidelity.SGP4.name());
+                warnings.add(warning);
+                candidates.add(new Candidate(warning, catalog.toSatellite(i), secondsFromNow));
+            }
 
-            Vector3D issPosition = getPosition(iss);
-            if (issPosition == null) return threats;
+            // Fast crossers can be far away at both samples and still pass close in between
+            if (hasPrevious) {
+                markCrossings(previous, states, previousPrimary, primary, intervalSeconds, subset, issIndex,
+                        neighbourhoodM, nearby, rel, tca);
+            }
+            EphemerisBuffer swap = previous;
+            previous = states;
+            states = swap;
+            System.arraycopy(primary, 0, previousPrimary, 0, primary.length);
+            hasPrevious = true;
+        }
 
-            List<Satellite> allObjects = repository.findAll();
-            AbsoluteDate currentDate = new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC());
+        return new ScreeningPass(warnings, candidates, nearby);
+    }
 
-            for (Satellite obj : allObjects) {
-                // Skipping if it's the same physical satellite\n                
-                // if (obj.getId().equals(iss.getId())) continue;
+    // Marks objects whose closest approach between two consecutive steps falls inside the radius
+    private static void markCrossings(EphemerisBuffer before, EphemerisBuffer after, double[] primaryBefore,
+                                      double[] primaryAfter, double dt, int[] subset, int primaryIndex, double radius,
+                                      boolean[] nearby, double[] rel, double[] tca) {
+        double radiusSq = radius * radius;
+        for (int j = 0; j < after.capacity(); j++) {
+            int i = subset == null ? j : subset[j];
+            if (nearby[i] || i == primaryIndex || !before.valid[j] || !after.valid[j]) continue;
+
+            rel[0] = before.x[j] - primaryBefore[0];
+            rel[1] = before.y[j] - primaryBefore[1];
+            rel[2] = before.z[j] - primaryBefore[2];
+            rel[3] = before.vx[j] - primaryBefore[3];
+            rel[4] = before.vy[j] - primaryBefore[4];
+            rel[5] = before.vz[j] - primaryBefore[5];
+            rel[6] = after.x[j] - primaryAfter[0];
+            rel[7] = after.y[j] - primaryAfter[1];
+            rel[8] = after.z[j] - primaryAfter[2];
+            rel[9] = after.vx[j] - primaryAfter[3];
+            rel[10] = after.vy[j] - primaryAfter[4];
+            rel[11] = after.vz[j] - primaryAfter[5];
+
+            // Most objects are either not at closest approach in this interval or provably too far away
+            if (!ClosestApproach.passesThrough(rel) || ClosestApproach.lowerBound(rel, dt) > radius) continue;
+            if (ClosestApproach.minimumSq(rel, dt, tca) <= radiusSq) nearby[i] = true;
+        }
+    }
 
+    private ScreeningNeighbourhood toNeighbourhood(CatalogSnapshot catalog, int primaryIndex, boolean[] nearby,
+                                                   AbsoluteDate windowStart, double windowSeconds) {
+        int count = 0;
+        for (int i = 0; i < nearby.length; i++) {
+            if (nearby[i] && catalog.noradId(i) >= 0) count++;
+        }
+        int[] noradIds = new int[count];
+        int k = 0;
+        for (int i = 0; i < nearby.length; i++) {
+            if (nearby[i] && catalog.noradId(i) >= 0) noradIds[k++] = catalog.noradId(i);
+        }
+        System.out.println("Cached " + count + " neighbourhood objects within " + neighbourhoodKm + " km for what-if runs");
+        return new ScreeningNeighbourhood(catalog.noradId(primaryIndex), noradIds, windowStart, windowSeconds);
+    }
 
-                Vector3D objPosition = getPosition(obj);
-                if (objPosition == null) continue;
+    // Screens the primary against only the objects whose NORAD id is in [noradFrom, noradTo); used by shard workers
+    public List<Map<String, Object>> screenNoradRange(CatalogSnapshot catalog, AbsoluteDate startDate,
+                                                      int noradFrom, int noradTo) {
+        int issIndex = catalog.indexOfNameContaining("ISS", "ZARYA");
+        if (issIndex < 0) return new ArrayList<>();
 
-                double distance = Vector3D.distance(issPosition, objPosition) / 1000.0;
+        int count = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            if (catalog.noradId(i) >= noradFrom && catalog.noradId(i) < noradTo) count++;
+        }
+        int[] subset = new int[count];
+        int k = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            if (catalog.noradId(i) >= noradFrom && catalog.noradId(i) < noradTo) subset[k++] = i;
+        }
+        ScreeningPass pass = screen(catalog, issIndex, subset, startDate);
 
-                // Filtering out zero distance and applying threshold
-                if (distance > 0.1 && distance <= COLLISION_THRESHOLD_KM) {
-                    Map<String, Object> threat = new HashMap<>();
-                    threat.put("name", obj.getName());
-                    threat.put("type", obj.getType());
-                    threat.put("distance", Math.round(distance * 100.0) / 100.0);
-                    threat.put("timestamp", currentDate.toString());
-                    threats.add(threat);
-                }
+        // Each shard refines its own closest candidates, so a run refines up to maxRefinements per shard
+        refineConjunctions(catalog.toSatellite(issIndex), pass.candidates(), startDate, INTERVAL_MINUTES * 60.0);
+        return pass.warnings();
+    }
+
+    // Re-propagates the closest screened conjunctions numerically, at their time of closest approach,
+    // within a single time budget
+    private void refineConjunctions(Satellite iss, List<Candidate> candidates, AbsoluteDate startDate,
+                                    double intervalSeconds) {
+        if (candidates.isEmpty() || maxRefinements <= 0) return;
+
+        List<Candidate> closest = candidates.stream()
+            .sorted(Comparator.comparingDouble(c -> (Double) c.warning().get("distance")))
+            .limit(maxRefinements)
+            .toList();
+
+        // The screening samples are up to half a step away from the real approach; find it on SGP4 first
+        TLEPropagator issSgp4 = ephemerisKernel.createPropagator(new TLE(iss.getLine1(), iss.getLine2()));
+        double[] approachSeconds = new double[closest.size()];
+        double[] rel = new double[12];
+        double[] tca = new double[1];
+        for (int i = 0; i < closest.size(); i++) {
+            approachSeconds[i] = approachTime(issSgp4, closest.get(i), startDate, intervalSeconds, rel, tca);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(propagationService.getTimeoutMs());
+
+        // The protected asset is propagated once per distinct approach time
+        Map<Double, Future<PVCoordinates>> issFutures = new HashMap<>();
+        List<Future<PVCoordinates>> objectFutures = new ArrayList<>();
+        for (int i = 0; i < closest.size(); i++) {
+            AbsoluteDate date = startDate.shiftedBy(approachSeconds[i]);
+            issFutures.computeIfAbsent(approachSeconds[i], s -> propagationService.submitNumerical(iss, date, deadline));
+            objectFutures.add(propagationService.submitNumerical(closest.get(i).object(), date, deadline));
+        }
+
+        int refined = 0;
+        for (int i = 0; i < closest.size(); i++) {
+            Candidate c = closest.get(i);
+            AbsoluteDate date = startDate.shiftedBy(approachSeconds[i]);
+            PropagationService.PropagationResult issState =
+                propagationService.resolve(issFutures.get(approachSeconds[i]), iss, date, deadline);
+            PropagationService.PropagationResult objState =
+                propagationService.resolve(objectFutures.get(i), c.object(), date, deadline);
+
+            // Only report a refined distance when both sides were actually integrated
+            if (issState.fidelity() == PropagationService.Fidelity.NUMERICAL
+                    && objState.fidelity() == PropagationService.Fidelity.NUMERICAL) {
+                double distance = Vector3D.distance(issState.pv().getPosition(), objState.pv().getPosition()) / 1000.0;
+                c.warning().put("refinedDistance", Math.round(distance * 100.0) / 100.0);
+                c.warning().put("refinedTimeOfApproach", date.toString());
+                c.warning().put("fidelity", PropagationService.Fidelity.NUMERICAL.name());
+                refined++;
             }
+        }
+        System.out.println("Refined " + refined + "/" + closest.size() + " conjunctions with numerical propagation");
+    }
 
+    // Time of closest approach (s from the window start) within one screening step either side of the sample
+    private double approachTime(TLEPropagator issSgp4, Candidate c, AbsoluteDate startDate, double dt,
+                                double[] rel, double[] tca) {
+        double sample = c.secondsFromNow();
+        try {
+            TLEPropagator objectSgp4 = ephemerisKernel.createPropagator(new TLE(c.object().getLine1(), c.object().getLine2()));
+            if (issSgp4 == null || objectSgp4 == null) return sample;
+
+            double best = sample;
+            double bestSq = Double.MAX_VALUE;
+            for (double from = sample - dt; from <= sample; from += dt) {
+                if (from < 0 || from + dt > WINDOW_SECONDS) continue;
+                relativeState(issSgp4, objectSgp4, startDate.shiftedBy(from), rel, 0);
+                relativeState(issSgp4, objectSgp4, startDate.shiftedBy(from + dt), rel, 6);
+                double d2 = ClosestApproach.minimumSq(rel, dt, tca);
+                if (d2 < bestSq) {
+                    bestSq = d2;
+                    best = from + tca[0];
+                }
+            }
+            return best;
         } catch (Exception e) {
-            System.err.println("Error in collision detection: " + e.getMessage());
+            // SGP4 can fail near the ends of a decaying object's life; keep the sampled time
+            return sample;
         }
+    }
 
-        return threats;
+    private static void relativeState(TLEPropagator primary, TLEPropagator secondary, AbsoluteDate date,
+                                      double[] rel, int offset) {
+        PVCoordinates p = primary.getPVCoordinates(date);
+        PVCoordinates s = secondary.getPVCoordinates(date);
+        rel[offset] = s.getPosition().getX() - p.getPosition().getX();
+        rel[offset + 1] = s.getPosition().getY() - p.getPosition().getY();
+        rel[offset + 2] = s.getPosition().getZ() - p.getPosition().getZ();
+        rel[offset + 3] = s.getVelocity().getX() - p.getVelocity().getX();
+        rel[offset + 4] = s.getVelocity().getY() - p.getVelocity().getY();
+        rel[offset + 5] = s.getVelocity().getZ() - p.getVelocity().getZ();
+    }
+
+    // Legacy method for real-time checks
+    public List<Map<String, Object>> checkISSCollisions() {
+        return checkISSCollisions(new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC()));
     }
 
-    private Vector3D getPosition(Satellite sat) {
+    public List<Map<String, Object>> checkISSCollisions(AbsoluteDate currentDate) {
+        List<Map<String, Object>> threats = new ArrayList<>();
+        
         try {
-            TLE tle = new TLE(sat.getLine1(), sat.getLine2());
-            TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle);
-            AbsoluteDate currentDate = new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC());
-            return propagator.getPVCoordinates(currentDate).getPosition();
+            CatalogSnapshot catalog = catalogService.snapshot();
+            int issIndex = catalog.indexOfNameContaining("ISS");
+
+            if (issIndex < 0) return threats;
+
+            EphemerisBuffer issState = new EphemerisBuffer(1);
+            TLEPropagator[] issPropagator = { ephemerisKernel.createPropagator(catalog.tle(issIndex)) };
+            ephemerisKernel.propagate(issPropagator, currentDate, issState, false);
+            if (!issState.valid[0]) return threats;
+
+            TLEPropagator[] propagators = ephemerisKernel.createPropagators(catalog);
+            EphemerisBuffer states = new EphemerisBuffer(propagators.length);
+            ephemerisKernel.propagate(propagators, currentDate, states, false);
+            String timestamp = currentDate.toString();
+
+            double[] primary = { issState.x[0], issState.y[0], issState.z[0],
+                                 issState.vx[0], issState.vy[0], issState.vz[0] };
+            int[] hits = new int[propagators.length];
+            double[] hitDistanceSq = new double[propagators.length];
+            double[] hitRangeRate = new double[propagators.length];
+
+            // Filtering out zero distance and applying threshold
+            double thresholdM = COLLISION_THRESHOLD_KM * 1000.0;
+            int found = screeningKernel.screen(states, propagators.length, primary, 100.0 * 100.0,
+                    thresholdM * thresholdM, hits, hitDistanceSq, hitRangeRate);
+
+            for (int k = 0; k < found; k++) {
+                // Skipping if it's the same physical satellite\n                
+                // if (obj.getId().equals(iss.getId())) continue;
+                int i = hits[k];
+                double distance = Math.sqrt(hitDistanceSq[k]) / 1000.0;
+
+                Map<String, Object> threat = new HashMap<>();
+                threat.put("name", catalog.name(i));
+                threat.put("type", catalog.type(i));
+                threat.put("distance", Math.round(distance * 100.0) / 100.0);
+                threat.put("timestamp", timestamp);
+                threats.add(threat);
+            }
+
         } catch (Exception e) {
-            return null;
+            System.err.println("Error in collision detection: " + e.getMessage());
         }
+
+        return threats;
     }
 }
@@ -0,0 +1,193 @@
+package com.orbital.backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import com.orbital.backend.model.Satellite;
+import com.orbital.backend.model.TleHistory;
+
+@Service
+public class DecayWatchService {
+
+    private static final double EARTH_RADIUS_KM = Constants.WGS84_EARTH_EQUATORIAL_RADIUS / 1000.0;
+    private static final double SECONDS_PER_DAY = 86400.0;
+
+    // Weight given to the newest observed perigee trend versus the running estimate
+    private static final double TREND_SMOOTHING = 0.5;
+
+    private final CatalogService catalogService;
+
+    @Value("${orbital.decay.perigee-threshold-km:300}")
+    private double perigeeThresholdKm;
+
+    @Value("${orbital.decay.reentry-altitude-km:120}")
+    private double reentryAltitudeKm;
+
+    @Value("${orbital.decay.window-fraction:0.25}")
+    private double windowFraction;
+
+    // Latest decay state per NORAD id, plus two sorted views kept in step with it
+    private final Map<Integer, DecayState> states = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<DecayState> byPerigee = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(DecayState::perigeeKm).thenComparingInt(DecayState::noradId));
+    private final ConcurrentSkipListSet<DecayState> byReentry = new ConcurrentSkipListSet<>(
+            Comparator.comparing(DecayState::reentryEstimate).thenComparingInt(DecayState::noradId));
+
+    public DecayWatchService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public record DecayState(int noradId, String name, String type, Instant epoch,
+                             double perigeeKm, double apogeeKm, double perigeeRateKmPerDay,
+                             Instant reentryEstimate, Instant reentryEarliest, Instant reentryLatest) {}
+
+    // Seed once from the current elements so the watch list is populated before the first sync
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void seed() {
+        long start = System.currentTimeMillis();
+        CatalogSnapshot catalog = catalogService.snapshot();
+        for (int i = 0; i < catalog.size(); i++) {
+            Satellite sat = catalog.toSatellite(i);
+            update(sat.getNoradId(), sat.getName(), sat.getType(), sat.getLine1(), sat.getLine2());
+        }
+        System.out.println("Decay watch seeded with " + states.size() + " objects ("
+                + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    // Incremental: only the versions that changed in this sync are touched
+    @EventListener
+    public void onTleSync(TleSyncEvent event) {
+        for (TleSyncEvent.Change change : event.changes()) {
+            TleHistory version = change.version();
+            update(version.getNoradId(), change.name(), change.type(), version.getLine1(), version.getLine2());
+        }
+        System.out.println("Decay watch updated " + event.changes().size() + " objects, "
+                + countBelowThreshold() + " below " + perigeeThresholdKm + " km perigee");
+    }
+
+    private void update(Integer noradId, String name, String type, String line1, String line2) {
+        if (noradId == null) return;
+        try {
+            TLE tle = new TLE(line1, line2);
+            Instant epoch = tle.getDate().toDate(TimeScalesFactory.getUTC()).toInstant();
+
+            // Semi-major axis from mean motion (rad/s): a = (mu / n^2)^(1/3)
+            double n = tle.getMeanMotion();
+            double a = Math.cbrt(Constants.WGS84_EARTH_MU / (n * n));
+            double e = tle.getE();
+            double perigeeKm = a * (1.0 - e) / 1000.0 - EARTH_RADIUS_KM;
+            double apogeeKm = a * (1.0 + e) / 1000.0 - EARTH_RADIUS_KM;
+
+            // Decay implied by the drag term: da/dt = -2/3 * a * ndot / n
+            double impliedRate = -2.0 / 3.0 * a * tle.getMeanMotionFirstDerivative() / n
+                    * SECONDS_PER_DAY / 1000.0;
+
+            synchronized (this) {
+                DecayState previous = states.get(noradId);
+                if (previous != null && !epoch.isAfter(previous.epoch())) return;
+
+                double rate = impliedRate;
+                if (previous != null) {
+                    double days = Duration.between(previous.epoch(), epoch).toSeconds() / SECONDS_PER_DAY;
+                    if (days > 0) {
+                        double observed = (perigeeKm - previous.perigeeKm()) / days;
+                        rate = TREND_SMOOTHING * observed + (1.0 - TREND_SMOOTHING) * previous.perigeeRateKmPerDay();
+                    }
+                }
+
+                Instant reentry = null;
+                Instant earliest = null;
+                Instant latest = null;
+                if (rate < 0) {
+                    double daysLeft = Math.max(0.0, perigeeKm - reentryAltitudeKm) / -rate;
+                    reentry = epoch.plusSeconds((long) (daysLeft * SECONDS_PER_DAY));
+                    earliest = epoch.plusSeconds((long) (daysLeft * (1.0 - windowFraction) * SECONDS_PER_DAY));
+                    latest = epoch.plusSeconds((long) (daysLeft * (1.0 + windowFraction) * SECONDS_PER_DAY));
+                }
+
+                DecayState state = new DecayState(noradId, name, type, epoch, perigeeKm, apogeeKm, rate,
+                        reentry, earliest, latest);
+
+                if (previous != null) {
+                    byPerigee.remove(previous);
+                    if (previous.reentryEstimate() != null) byReentry.remove(previous);
+                }
+                states.put(noradId, state);
+                byPerigee.add(state);
+                if (reentry != null) byReentry.add(state);
+            }
+        } catch (Exception e) {
+            System.err.println("Decay watch skipped " + name + ": " + e.getMessage());
+        }
+    }
+
+    public List<Map<String, Object>> getLowestPerigee(int limit) {
+        return toMaps(byPerigee.iterator(), limit);
+    }
+
+    public List<Map<String, Object>> getSoonestReentry(int limit) {
+        return toMaps(byReentry.iterator(), limit);
+    }
+
+    public Map<String, Object> getState(Integer noradId) {
+        DecayState state = states.get(noradId);
+        return state != null ? toMap(state) : null;
+    }
+
+    public int countBelowThreshold() {
+        int count = 0;
+        for (DecayState state : byPerigee) {
+            if (state.perigeeKm() >= perigeeThresholdKm) break;
+            count++;
+        }
+        return count;
+    }
+
+    public double getPerigeeThresholdKm() {
+        return perigeeThresholdKm;
+    }
+
+    private List<Map<String, Object>> toMaps(Iterator<DecayState> it, int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(toMap(it.next()));
+        }
+        return result;
+    }
+
+    private Map<String, Object> toMap(DecayState state) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("noradId", state.noradId());
+        data.put("name", state.name());
+        data.put("type", state.type());
+        data.put("epoch", state.epoch().toString());
+        data.put("perigeeKm", Math.round(state.perigeeKm() * 10.0) / 10.0);
+        data.put("apogeeKm", Math.round(state.apogeeKm() * 10.0) / 10.0);
+        data.put("perigeeRateKmPerDay", Math.round(state.perigeeRateKmPerDay() * 1000.0) / 1000.0);
+        data.put("belowThreshold", state.perigeeKm() < perigeeThresholdKm);
+        if (state.reentryEstimate() != null) {
+            data.put("reentryEstimate", state.reentryEstimate().toString());
+            data.put("reentryWindowStart", state.reentryEarliest().toString());
+            data.put("reentryWindowEnd", state.reentryLatest().toString());
+        }
+        return data;
+    }
+}
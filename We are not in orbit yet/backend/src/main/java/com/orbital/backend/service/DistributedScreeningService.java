@@ -0,0 +1,330 @@
+package com.orbital.backend.service;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbital.backend.model.ScreeningHit;
+import com.orbital.backend.model.ScreeningShard;
+import com.orbital.backend.model.ShardStatus;
+import com.orbital.backend.repository.ScreeningHitRepository;
+import com.orbital.backend.repository.ScreeningShardRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Splits a screening run into NORAD id ranges that any backend instance can claim from the shared database
+@Service
+public class DistributedScreeningService {
+
+    private final ScreeningShardRepository shardRepository;
+    private final ScreeningHitRepository hitRepository;
+    private final CatalogService catalogService;
+    private final CollisionDetectionService collisionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${orbital.screening.worker.enabled:true}")
+    private boolean workerEnabled;
+
+    @Value("${orbital.screening.worker.node-id:}")
+    private String configuredNodeId;
+
+    // A claim not completed within the lease is assumed lost with its worker
+    @Value("${orbital.screening.worker.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${orbital.screening.worker.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${orbital.screening.max-shards:256}")
+    private int maxShards;
+
+    // Shards run here rather than on the scheduler thread, so the reaper and other jobs keep their schedule
+    @Value("${orbital.screening.worker.threads:1}")
+    private int workerThreads;
+
+    private ExecutorService workers;
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+
+    private volatile String nodeId;
+
+    public DistributedScreeningService(ScreeningShardRepository shardRepository, ScreeningHitRepository hitRepository,
+                                       CatalogService catalogService, CollisionDetectionService collisionService,
+                                       PlatformTransactionManager transactionManager) {
+        this.shardRepository = shardRepository;
+        this.hitRepository = hitRepository;
+        this.catalogService = catalogService;
+        this.collisionService = collisionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger counter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "screening-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // Coordinator: enqueues one shard per NORAD id quantile of the local catalog, all sharing one window start
+    public Map<String, Object> createRun(int shards) {
+        if (shards < 1 || shards > maxShards) {
+            throw new IllegalArgumentException("shards must be between 1 and " + maxShards);
+        }
+
+        CatalogSnapshot catalog = catalogService.snapshot();
+        if (catalog.size() == 0) {
+            throw new IllegalStateException("Catalog is empty, sync TLE data first");
+        }
+
+        int[] noradIds = new int[catalog.size()];
+        for (int i = 0; i < noradIds.length; i++) {
+            noradIds[i] = catalog.noradId(i);
+        }
+        Arrays.sort(noradIds);
+
+        String runId = UUID.randomUUID().toString();
+        Instant windowStart = Instant.now();
+        List<ScreeningShard> queued = new ArrayList<>();
+
+        // Contiguous ranges with roughly equal object counts; the outer bounds are open so no object is missed
+        int from = Integer.MIN_VALUE;
+        for (int s = 0; s < shards; s++) {
+            int to = s == shards - 1 ? Integer.MAX_VALUE : noradIds[(int) ((long) noradIds.length * (s + 1) / shards)];
+            if (to <= from) continue; // duplicate boundary on small catalogs
+
+            ScreeningShard shard = new ScreeningShard();
+            shard.setRunId(runId);
+            shard.setShardIndex(queued.size());
+            shard.setNoradFrom(from);
+            shard.setNoradTo(to);
+            shard.setWindowStart(windowStart);
+            shard.setCatalogEpoch(catalog.latestEpoch());
+            shard.setStatus(ShardStatus.PENDING);
+            queued.add(shard);
+            from = to;
+        }
+        shardRepository.saveAll(queued);
+
+        Map<String, Object> run = new HashMap<>();
+        run.put("runId", runId);
+        run.put("shards", queued.size());
+        run.put("windowStart", windowStart.toString());
+        run.put("catalogVersion", catalog.version());
+        run.put("catalogEpoch", String.valueOf(catalog.latestEpoch()));
+        return run;
+    }
+
+    // Progress of a run plus every hit reported so far, merged across shards
+    public Optional<Map<String, Object>> getRun(String runId) {
+        List<ScreeningShard> shards = shardRepository.findByRunIdOrderByShardIndex(runId);
+        if (shards.isEmpty()) return Optional.empty();
+
+        Map<ShardStatus, Integer> counts = new EnumMap<>(ShardStatus.class);
+        for (ShardStatus status : ShardStatus.values()) counts.put(status, 0);
+        List<Map<String, Object>> shardInfo = new ArrayList<>();
+        for (ScreeningShard shard : shards) {
+            counts.merge(shard.getStatus(), 1, Integer::sum);
+
+            Map<String, Object> info = new HashMap<>();
+            info.put("shardIndex", shard.getShardIndex());
+            info.put("status", shard.getStatus().name());
+            info.put("workerId", shard.getWorkerId());
+            info.put("attempts", shard.getAttempts());
+            info.put("hits", shard.getHitCount());
+            info.put("computeMs", shard.getComputeMs());
+            shardInfo.add(info);
+        }
+
+        List<Map<String, Object>> warnings = new ArrayList<>();
+        for (ScreeningHit hit : hitRepository.findByRunIdOrderByHoursFromNowAscDistanceAsc(runId)) {
+            Map<String, Object> warning = new HashMap<>();
+            warning.put("object", hit.getObjectName());
+            warning.put("noradId", hit.getNoradId());
+            warning.put("type", hit.getType());
+            warning.put("distance", hit.getDistance());
+            warning.put("rangeRate", hit.getRangeRate());
+            warning.put("timeOfApproach", hit.getTimeOfApproach());
+            warning.put("hoursFromNow", hit.getHoursFromNow());
+            if (hit.getRefinedDistance() != null) warning.put("refinedDistance", hit.getRefinedDistance());
+            warning.put("fidelity", hit.getFidelity());
+            warnings.add(warning);
+        }
+
+        int done = counts.get(ShardStatus.DONE);
+        int failed = counts.get(ShardStatus.FAILED);
+
+        Map<String, Object> run = new HashMap<>();
+        run.put("runId", runId);
+        run.put("windowStart", shards.get(0).getWindowStart().toString());
+        run.put("catalogEpoch", String.valueOf(shards.get(0).getCatalogEpoch()));
+        run.put("totalShards", shards.size());
+        run.put("pending", counts.get(ShardStatus.PENDING));
+        run.put("claimed", counts.get(ShardStatus.CLAIMED));
+        run.put("done", done);
+        run.put("failed", failed);
+        run.put("complete", done + failed == shards.size());
+        run.put("shards", shardInfo);
+        run.put("warnings", warnings);
+        return Optional.of(run);
+    }
+
+    // Worker: every instance polls the queue; SKIP LOCKED hands each pending shard to exactly one of them
+    @Scheduled(fixedDelayString = "${orbital.screening.worker.poll-ms:2000}")
+    public void pollShards() {
+        if (!workerEnabled) return;
+
+        // Claim no more than there are idle workers, so a claimed shard never waits out its lease in a queue
+        while (busyWorkers.get() < workerThreads) {
+            ScreeningShard shard = transactionTemplate.execute(status -> claimNext());
+            if (shard == null) return;
+            busyWorkers.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    runShard(shard);
+                } finally {
+                    busyWorkers.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private ScreeningShard claimNext() {
+        Optional<ScreeningShard> next = shardRepository.lockNextPending();
+        if (next.isEmpty()) return null;
+
+        ScreeningShard shard = next.get();
+        shard.setStatus(ShardStatus.CLAIMED);
+        shard.setWorkerId(getNodeId());
+        shard.setClaimToken(UUID.randomUUID().toString());
+        shard.setClaimedAt(Instant.now());
+        shard.setAttempts(shard.getAttempts() + 1);
+        return shardRepository.save(shard);
+    }
+
+    private void runShard(ScreeningShard shard) {
+        long started = System.currentTimeMillis();
+        try {
+            CatalogSnapshot catalog = catalogFor(shard);
+            AbsoluteDate windowStart = new AbsoluteDate(Date.from(shard.getWindowStart()), TimeScalesFactory.getUTC());
+            List<Map<String, Object>> warnings = collisionService.screenNoradRange(catalog, windowStart,
+                    shard.getNoradFrom(), shard.getNoradTo());
+            long computeMs = System.currentTimeMillis() - started;
+            transactionTemplate.executeWithoutResult(status -> complete(shard, warnings, computeMs));
+        } catch (RuntimeException e) {
+            System.err.println("Screening shard " + shard.getId() + " failed on " + getNodeId() + ": " + e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> release(shard));
+        }
+    }
+
+    // The coordinator's catalog is the floor: reload from the database if this instance has not caught up yet,
+    // and refuse the shard if even the database is behind it
+    private CatalogSnapshot catalogFor(ScreeningShard shard) {
+        CatalogSnapshot catalog = catalogService.snapshot();
+        if (isBehind(catalog, shard.getCatalogEpoch())) {
+            catalog = catalogService.rebuild();
+        }
+        if (isBehind(catalog, shard.getCatalogEpoch())) {
+            throw new IllegalStateException("catalog epoch " + catalog.latestEpoch() + " is behind the run's "
+                    + shard.getCatalogEpoch());
+        }
+        return catalog;
+    }
+
+    private static boolean isBehind(CatalogSnapshot catalog, Instant required) {
+        return required != null && (catalog.latestEpoch() == null || catalog.latestEpoch().isBefore(required));
+    }
+
+    private void complete(ScreeningShard shard, List<Map<String, Object>> warnings, long computeMs) {
+        Long shardId = shard.getId();
+
+        // The conditional update both checks and takes the claim, and holds the row lock until the hits are in.
+        // If the lease expired and the shard was claimed again (by any node, this one included), the token differs
+        int updated = shardRepository.completeClaim(shardId, shard.getClaimToken(), Instant.now(), warnings.size(),
+                computeMs, ShardStatus.CLAIMED, ShardStatus.DONE);
+        if (updated == 0) {
+            System.out.println("Discarding result for screening shard " + shardId + ", claim no longer held");
+            return;
+        }
+
+        hitRepository.deleteByShard(shardId);
+        List<ScreeningHit> hits = new ArrayList<>(warnings.size());
+        for (Map<String, Object> warning : warnings) {
+            ScreeningHit hit = new ScreeningHit();
+            hit.setRunId(shard.getRunId());
+            hit.setShardId(shardId);
+            hit.setObjectName((String) warning.get("object"));
+            hit.setNoradId((Integer) warning.get("noradId"));
+            hit.setType((String) warning.get("type"));
+            hit.setDistance((Double) warning.get("distance"));
+            hit.setRangeRate((Double) warning.get("rangeRate"));
+            hit.setTimeOfApproach((String) warning.get("timeOfApproach"));
+            hit.setHoursFromNow((Double) warning.get("hoursFromNow"));
+            hit.setRefinedDistance((Double) warning.get("refinedDistance"));
+            hit.setFidelity((String) warning.get("fidelity"));
+            hits.add(hit);
+        }
+        hitRepository.saveAll(hits);
+    }
+
+    // Hands a shard that errored back to the queue, or fails it once it has used up its attempts.
+    // attempts only changes on a new claim, so it is current whenever the token still matches
+    private void release(ScreeningShard shard) {
+        ShardStatus next = shard.getAttempts() >= maxAttempts ? ShardStatus.FAILED : ShardStatus.PENDING;
+        shardRepository.releaseClaim(shard.getId(), shard.getClaimToken(), ShardStatus.CLAIMED, next);
+    }
+
+    // Reaper: claims whose worker died or stalled past the lease go back to the queue
+    @Scheduled(fixedDelayString = "${orbital.screening.worker.reap-ms:30000}")
+    public void reapExpiredClaims() {
+        Instant cutoff = Instant.now().minusSeconds(leaseSeconds);
+        int requeued = shardRepository.requeueExpired(cutoff, maxAttempts, ShardStatus.CLAIMED, ShardStatus.PENDING);
+        int failed = shardRepository.failExpired(cutoff, maxAttempts, ShardStatus.CLAIMED, ShardStatus.FAILED);
+        if (requeued > 0 || failed > 0) {
+            System.out.println("Screening reaper: " + requeued + " shards requeued, " + failed + " failed");
+        }
+    }
+
+    public String getNodeId() {
+        if (nodeId == null) {
+            nodeId = configuredNodeId != null && !configuredNodeId.isBlank() ? configuredNodeId : defaultNodeId();
+        }
+        return nodeId;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,49 @@
+package com.orbital.backend.service;
+
+// Structure-of-arrays output for bulk propagation: slot i holds object i of the propagator array
+public final class EphemerisBuffer {
+
+    // TEME position (m) and velocity (m/s)
+    public final double[] x;
+    public final double[] y;
+    public final double[] z;
+    public final double[] vx;
+    public final double[] vy;
+    public final double[] vz;
+
+    // WGS84 geodetic latitude/longitude (degrees) and altitude (km), only filled when requested
+    public final double[] lat;
+    public final double[] lon;
+    public final double[] alt;
+
+    // False where the object had no propagator or SGP4 failed at this date (its x/y/z are then NaN)
+    public final boolean[] valid;
+
+    public EphemerisBuffer(int capacity) {
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.z = new double[capacity];
+        this.vx = new double[capacity];
+        this.vy = new double[capacity];
+        this.vz = new double[capacity];
+        this.lat = new double[capacity];
+        this.lon = new double[capacity];
+        this.alt = new double[capacity];
+        this.valid = new boolean[capacity];
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public double speed(int i) {
+        return Math.sqrt(vx[i] * vx[i] + vy[i] * vy[i] + vz[i] * vz[i]);
+    }
+
+    public double distanceSquared(int i, int j) {
+        double dx = x[i] - x[j];
+        double dy = y[i] - y[j];
+        double dz = z[i] - z[j];
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
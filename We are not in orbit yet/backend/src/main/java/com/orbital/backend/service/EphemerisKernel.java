@@ -0,0 +1,137 @@
+package com.orbital.backend.service;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+import org.springframework.stereotype.Service;
+
+// Bulk SGP4 propagation into primitive arrays: no maps, boxing or strings per object-step.
+// Orekit's SGP4 still returns a fresh PVCoordinates per call, so the loop is not allocation-free;
+// EphemerisKernelBenchmark measures what is left with -prof gc.
+@Service
+public class EphemerisKernel {
+
+    private static final double A = Constants.WGS84_EARTH_EQUATORIAL_RADIUS;
+    private static final double F = Constants.WGS84_EARTH_FLATTENING;
+    private static final double E2 = F * (2.0 - F);
+    private static final int GEODETIC_ITERATIONS = 4;
+
+    // TLEs come pre-parsed from the snapshot; the returned propagators are not thread-safe and belong to the caller
+    public TLEPropagator[] createPropagators(CatalogSnapshot catalog) {
+        TLEPropagator[] propagators = new TLEPropagator[catalog.size()];
+        for (int i = 0; i < propagators.length; i++) {
+            propagators[i] = createPropagator(catalog.tle(i));
+        }
+        return propagators;
+    }
+
+    // Propagators for selected catalog slots only; output slot k corresponds to indices[k]
+    public TLEPropagator[] createPropagators(CatalogSnapshot catalog, int[] indices) {
+        TLEPropagator[] propagators = new TLEPropagator[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            propagators[k] = createPropagator(catalog.tle(indices[k]));
+        }
+        return propagators;
+    }
+
+    public TLEPropagator createPropagator(TLE tle) {
+        if (tle == null) return null;
+        try {
+            return TLEPropagator.selectExtrapolator(tle);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // Fills out[0..n) for one instant; geodetic conversion is optional since screening only needs Cartesian
+    public void propagate(TLEPropagator[] propagators, AbsoluteDate date, EphemerisBuffer out, boolean geodetic) {
+        // One rotation-only frame transform per step, unpacked into nine doubles for the object loop
+        double m00 = 0, m01 = 0, m02 = 0, m10 = 0, m11 = 0, m12 = 0, m20 = 0, m21 = 0, m22 = 0;
+        if (geodetic) {
+            Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+            double[][] m = FramesFactory.getTEME().getStaticTransformTo(itrf, date).getRotation().getMatrix();
+            m00 = m[0][0];
+            m01 = m[0][1];
+            m02 = m[0][2];
+            m10 = m[1][0];
+            m11 = m[1][1];
+            m12 = m[1][2];
+            m20 = m[2][0];
+            m21 = m[2][1];
+            m22 = m[2][2];
+        }
+
+        for (int i = 0; i < propagators.length; i++) {
+            TLEPropagator propagator = propagators[i];
+            if (propagator == null) {
+                markInvalid(out, i);
+                continue;
+            }
+
+            PVCoordinates pv;
+            try {
+                pv = propagator.getPVCoordinates(date);
+            } catch (Exception e) {
+                markInvalid(out, i);
+                continue;
+            }
+
+            Vector3D p = pv.getPosition();
+            Vector3D v = pv.getVelocity();
+            double px = p.getX();
+            double py = p.getY();
+            double pz = p.getZ();
+            out.x[i] = px;
+            out.y[i] = py;
+            out.z[i] = pz;
+            out.vx[i] = v.getX();
+            out.vy[i] = v.getY();
+            out.vz[i] = v.getZ();
+            out.valid[i] = true;
+
+            if (geodetic) {
+                double ex = m00 * px + m01 * py + m02 * pz;
+                double ey = m10 * px + m11 * py + m12 * pz;
+                double ez = m20 * px + m21 * py + m22 * pz;
+                toGeodetic(ex, ey, ez, out, i);
+            }
+        }
+    }
+
+    // NaN positions make invalid slots fall out of any distance comparison without a branch
+    private static void markInvalid(EphemerisBuffer out, int i) {
+        out.valid[i] = false;
+        out.x[i] = Double.NaN;
+        out.y[i] = Double.NaN;
+        out.z[i] = Double.NaN;
+    }
+
+    // Iterative ECEF -> WGS84 geodetic conversion, converges to sub-millimetre in a few passes for LEO/GEO
+    private static void toGeodetic(double x, double y, double z, EphemerisBuffer out, int i) {
+        double p = Math.sqrt(x * x + y * y);
+        double lat = Math.atan2(z, p * (1.0 - E2));
+        double n = A;
+        for (int k = 0; k < GEODETIC_ITERATIONS; k++) {
+            double sinLat = Math.sin(lat);
+            n = A / Math.sqrt(1.0 - E2 * sinLat * sinLat);
+            double h = p / Math.cos(lat) - n;
+            lat = Math.atan2(z, p * (1.0 - E2 * n / (n + h)));
+        }
+
+        double sinLat = Math.sin(lat);
+        double cosLat = Math.cos(lat);
+        n = A / Math.sqrt(1.0 - E2 * sinLat * sinLat);
+        // Near the poles cos(lat) -> 0, so use the z-based form there
+        double h = Math.abs(cosLat) > 1e-3 ? p / cosLat - n : Math.abs(z) / Math.abs(sinLat) - n * (1.0 - E2);
+
+        out.lat[i] = Math.toDegrees(lat);
+        out.lon[i] = Math.toDegrees(Math.atan2(y, x));
+        out.alt[i] = h / 1000.0;
+    }
+}
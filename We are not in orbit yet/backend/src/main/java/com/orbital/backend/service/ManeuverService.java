@@ -0,0 +1,313 @@
+package com.orbital.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.PVCoordinates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// What-if evaluation of impulsive avoidance maneuvers against the last screening run's neighbourhood
+@Service
+public class ManeuverService {
+
+    private final CollisionDetectionService collisionService;
+    private final CatalogService catalogService;
+    private final EphemerisKernel ephemerisKernel;
+
+    @Value("${orbital.maneuver.step-seconds:60}")
+    private double stepSeconds;
+
+    @Value("${orbital.maneuver.max-candidates:64}")
+    private int maxCandidates;
+
+    // Below this much remaining window the cached screening run is too old to judge a burn against
+    @Value("${orbital.maneuver.min-window-hours:12}")
+    private double minWindowHours;
+
+    // Candidates of one request are evaluated in parallel here; the what-if bulkhead bounds how many requests feed it
+    @Value("${orbital.maneuver.threads:4}")
+    private int threads;
+
+    private ExecutorService workers;
+
+    public ManeuverService(CollisionDetectionService collisionService, CatalogService catalogService,
+                           EphemerisKernel ephemerisKernel) {
+        this.collisionService = collisionService;
+        this.catalogService = catalogService;
+        this.ephemerisKernel = ephemerisKernel;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger counter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "what-if-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // Delta-v components in the primary's local RTN frame (m/s), applied at burnHoursFromNow
+    public record ManeuverCandidate(double burnHoursFromNow, double radial, double alongTrack, double crossTrack) {}
+
+    // Everything the candidates share: nominal primary states, secondary tracks and TEME rotations per step.
+    // secondaries[step] holds x, y, z, vx, vy, vz for each object in turn; valid[step] marks where SGP4 succeeded
+    private record Scenario(TLE primaryTle, AbsoluteDate start, int steps, double[][] primary, double[][] secondaries,
+                            boolean[][] valid, double[][][] emeToTeme, String[] names, String[] types) {}
+
+    public Map<String, Object> evaluate(List<ManeuverCandidate> candidates) {
+        CollisionDetectionService.ScreeningNeighbourhood neighbourhood = collisionService.getLastNeighbourhood();
+        if (neighbourhood == null) {
+            throw new IllegalStateException("No screening run cached yet; call /api/warnings first");
+        }
+        if (candidates == null || candidates.isEmpty()) {
+            throw new IllegalArgumentException("At least one candidate maneuver is required");
+        }
+        if (candidates.size() > maxCandidates) {
+            throw new IllegalArgumentException("At most " + maxCandidates + " candidates per request");
+        }
+
+        long startTime = System.currentTimeMillis();
+        AbsoluteDate start = new AbsoluteDate(new Date(), TimeScalesFactory.getUTC());
+        double windowSeconds = neighbourhood.windowStart().shiftedBy(neighbourhood.windowSeconds()).durationFrom(start);
+        if (windowSeconds < minWindowHours * 3600.0) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "Last screening run leaves %.1f h of its window (minimum %.1f h); call /api/warnings to re-screen",
+                    Math.max(0.0, windowSeconds) / 3600.0, minWindowHours));
+        }
+        // A burn has to land before the last step, otherwise it would not change anything that gets screened
+        double lastBurnSeconds = ((int) (windowSeconds / stepSeconds) - 1) * stepSeconds;
+        for (ManeuverCandidate candidate : candidates) {
+            double burnSeconds = candidate.burnHoursFromNow() * 3600.0;
+            if (!(burnSeconds >= 0 && burnSeconds <= lastBurnSeconds)) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "burnHoursFromNow %.2f is outside the screening window [0, %.2f]",
+                        candidate.burnHoursFromNow(), lastBurnSeconds / 3600.0));
+            }
+        }
+
+        Scenario scenario = buildScenario(neighbourhood, start, windowSeconds);
+
+        // One task per candidate plus the no-burn baseline; the scenario is read-only, so they share it freely
+        CompletableFuture<Map<String, Object>> baseline =
+            CompletableFuture.supplyAsync(() -> evaluate(scenario, new ManeuverCandidate(0, 0, 0, 0)), workers);
+        List<CompletableFuture<Map<String, Object>>> tasks = candidates.stream()
+            .map(candidate -> CompletableFuture.supplyAsync(() -> evaluate(scenario, candidate), workers))
+            .toList();
+
+        List<Map<String, Object>> results = tasks.stream()
+            .map(CompletableFuture::join)
+            .sorted(Comparator.comparing((Map<String, Object> r) -> (Double) r.get("minMissDistance"),
+                    Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("windowStart", scenario.start().toString());
+        response.put("windowHours", Math.round(scenario.steps() * stepSeconds / 360.0) / 10.0);
+        response.put("secondaries", scenario.names().length);
+        response.put("baseline", baseline.join());
+        response.put("candidates", results);
+        response.put("computeMs", System.currentTimeMillis() - startTime);
+        return response;
+    }
+
+    private Scenario buildScenario(CollisionDetectionService.ScreeningNeighbourhood neighbourhood, AbsoluteDate start,
+                                   double windowSeconds) {
+        CatalogSnapshot catalog = catalogService.snapshot();
+        int primaryIndex = catalog.indexOfNoradId(neighbourhood.primaryNoradId());
+        if (primaryIndex < 0 || catalog.tle(primaryIndex) == null) {
+            throw new IllegalStateException("Protected asset is no longer in the catalog");
+        }
+
+        // Resolve the cached neighbourhood against the current catalog
+        List<Integer> indices = new ArrayList<>();
+        for (int noradId : neighbourhood.secondaryNoradIds()) {
+            int index = catalog.indexOfNoradId(noradId);
+            if (index >= 0 && catalog.tle(index) != null) indices.add(index);
+        }
+        TLEPropagator[] propagators = new TLEPropagator[indices.size()];
+        String[] names = new String[indices.size()];
+        String[] types = new String[indices.size()];
+        for (int k = 0; k < propagators.length; k++) {
+            propagators[k] = ephemerisKernel.createPropagator(catalog.tle(indices.get(k)));
+            names[k] = catalog.name(indices.get(k));
+            types[k] = catalog.type(indices.get(k));
+        }
+        TLEPropagator[] primaryPropagator = { ephemerisKernel.createPropagator(catalog.tle(primaryIndex)) };
+
+        int steps = (int) (windowSeconds / stepSeconds);
+
+        Frame eme2000 = FramesFactory.getEME2000();
+        Frame teme = FramesFactory.getTEME();
+        double[][] primary = new double[steps][];
+        double[][] secondaries = new double[steps][];
+        boolean[][] valid = new boolean[steps][];
+        double[][][] emeToTeme = new double[steps][][];
+
+        // One propagation buffer for every step; only position and velocity are kept per step
+        EphemerisBuffer primaryState = new EphemerisBuffer(1);
+        EphemerisBuffer states = new EphemerisBuffer(propagators.length);
+
+        for (int step = 0; step < steps; step++) {
+            AbsoluteDate date = start.shiftedBy(step * stepSeconds);
+            ephemerisKernel.propagate(primaryPropagator, date, primaryState, false);
+            primary[step] = new double[] { primaryState.x[0], primaryState.y[0], primaryState.z[0],
+                                           primaryState.vx[0], primaryState.vy[0], primaryState.vz[0] };
+
+            ephemerisKernel.propagate(propagators, date, states, false);
+            double[] track = new double[propagators.length * 6];
+            for (int k = 0; k < propagators.length; k++) {
+                track[k * 6] = states.x[k];
+                track[k * 6 + 1] = states.y[k];
+                track[k * 6 + 2] = states.z[k];
+                track[k * 6 + 3] = states.vx[k];
+                track[k * 6 + 4] = states.vy[k];
+                track[k * 6 + 5] = states.vz[k];
+            }
+            secondaries[step] = track;
+            valid[step] = states.valid.clone();
+            emeToTeme[step] = eme2000.getTransformTo(teme, date).getRotation().getMatrix();
+        }
+
+        return new Scenario(catalog.tle(primaryIndex), start, steps, primary, secondaries, valid, emeToTeme,
+                names, types);
+    }
+
+    private Map<String, Object> evaluate(Scenario scenario, ManeuverCandidate candidate) {
+        double burnSeconds = candidate.burnHoursFromNow() * 3600.0;
+        int burnStep = (int) Math.ceil(burnSeconds / stepSeconds);
+        boolean burns = candidate.radial() != 0 || candidate.alongTrack() != 0 || candidate.crossTrack() != 0;
+
+        KeplerianPropagator nominal = null;
+        KeplerianPropagator maneuvered = null;
+        Frame eme2000 = FramesFactory.getEME2000();
+        if (burns && burnStep < scenario.steps()) {
+            // The burn changes the SGP4 track by the difference between two Keplerian arcs from the burn state
+            AbsoluteDate burnDate = scenario.start().shiftedBy(burnSeconds);
+            PVCoordinates pv = FramesFactory.getTEME().getTransformTo(eme2000, burnDate)
+                    .transformPVCoordinates(TLEPropagator.selectExtrapolator(scenario.primaryTle()).getPVCoordinates(burnDate));
+
+            Vector3D r = pv.getPosition();
+            Vector3D v = pv.getVelocity();
+            Vector3D radialDir = r.normalize();
+            Vector3D crossDir = Vector3D.crossProduct(r, v).normalize();
+            Vector3D alongDir = Vector3D.crossProduct(crossDir, radialDir);
+            Vector3D dv = new Vector3D(candidate.radial(), radialDir, candidate.alongTrack(), alongDir,
+                    candidate.crossTrack(), crossDir);
+
+            nominal = new KeplerianPropagator(new CartesianOrbit(pv, eme2000, burnDate, Constants.WGS84_EARTH_MU));
+            maneuvered = new KeplerianPropagator(new CartesianOrbit(new PVCoordinates(r, v.add(dv)), eme2000,
+                    burnDate, Constants.WGS84_EARTH_MU));
+        }
+
+        double minDistanceSq = Double.MAX_VALUE;
+        double minSeconds = 0;
+        int minObject = -1;
+        double[] primaryBefore = new double[6];
+        double[] primaryNow = new double[6];
+        double[] rel = new double[12];
+        double[] tca = new double[1];
+        for (int step = 0; step < scenario.steps(); step++) {
+            System.arraycopy(scenario.primary()[step], 0, primaryNow, 0, primaryNow.length);
+
+            if (maneuvered != null && step >= burnStep) {
+                AbsoluteDate date = scenario.start().shiftedBy(step * stepSeconds);
+                PVCoordinates after = maneuvered.getPVCoordinates(date, eme2000);
+                PVCoordinates before = nominal.getPVCoordinates(date, eme2000);
+                double[][] m = scenario.emeToTeme()[step];
+                addRotated(m, after.getPosition().subtract(before.getPosition()), primaryNow, 0);
+                addRotated(m, after.getVelocity().subtract(before.getVelocity()), primaryNow, 3);
+            }
+
+            double[] secondaries = scenario.secondaries()[step];
+            boolean[] valid = scenario.valid()[step];
+            double[] previous = step > 0 ? scenario.secondaries()[step - 1] : null;
+            boolean[] previousValid = step > 0 ? scenario.valid()[step - 1] : null;
+            for (int k = 0; k < scenario.names().length; k++) {
+                if (!valid[k]) continue;
+                double dx = secondaries[k * 6] - primaryNow[0];
+                double dy = secondaries[k * 6 + 1] - primaryNow[1];
+                double dz = secondaries[k * 6 + 2] - primaryNow[2];
+                double d2 = dx * dx + dy * dy + dz * dz;
+                if (d2 < minDistanceSq) {
+                    minDistanceSq = d2;
+                    minSeconds = step * stepSeconds;
+                    minObject = k;
+                }
+
+                // Range-rate turned from closing to opening since the last step: refine the TCA in between
+                if (previous == null || !previousValid[k]) continue;
+                fillRelative(previous, k, primaryBefore, rel, 0);
+                fillRelative(secondaries, k, primaryNow, rel, 6);
+                if (!ClosestApproach.passesThrough(rel)
+                        || ClosestApproach.lowerBound(rel, stepSeconds) >= Math.sqrt(minDistanceSq)) continue;
+                double between = ClosestApproach.minimumSq(rel, stepSeconds, tca);
+                if (between < minDistanceSq) {
+                    minDistanceSq = between;
+                    minSeconds = (step - 1) * stepSeconds + tca[0];
+                    minObject = k;
+                }
+            }
+
+            double[] swap = primaryBefore;
+            primaryBefore = primaryNow;
+            primaryNow = swap;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("burnHoursFromNow", candidate.burnHoursFromNow());
+        result.put("radial", candidate.radial());
+        result.put("alongTrack", candidate.alongTrack());
+        result.put("crossTrack", candidate.crossTrack());
+        result.put("deltaV", Math.sqrt(candidate.radial() * candidate.radial()
+                + candidate.alongTrack() * candidate.alongTrack() + candidate.crossTrack() * candidate.crossTrack()));
+        // Nothing left to miss: no neighbourhood object propagated, so there is no distance to report
+        if (minObject < 0) return result;
+        result.put("minMissDistance", Math.round(Math.sqrt(minDistanceSq) / 10.0) / 100.0); // km
+        result.put("closestObject", scenario.names()[minObject]);
+        result.put("closestObjectType", scenario.types()[minObject]);
+        result.put("timeOfClosestApproach", scenario.start().shiftedBy(minSeconds).toString());
+        return result;
+    }
+
+    private static void addRotated(double[][] m, Vector3D v, double[] out, int offset) {
+        out[offset] += m[0][0] * v.getX() + m[0][1] * v.getY() + m[0][2] * v.getZ();
+        out[offset + 1] += m[1][0] * v.getX() + m[1][1] * v.getY() + m[1][2] * v.getZ();
+        out[offset + 2] += m[2][0] * v.getX() + m[2][1] * v.getY() + m[2][2] * v.getZ();
+    }
+
+    // Secondary k relative to the primary, as position then velocity at rel[offset..offset + 6)
+    private static void fillRelative(double[] track, int k, double[] primary, double[] rel, int offset) {
+        for (int c = 0; c < 6; c++) {
+            rel[offset + c] = track[k * 6 + c] - primary[c];
+        }
+    }
+}
@@ -24,20 +24,50 @@ import com.orbital.backend.model.Satellite;
 @Service
 public class OrbitalMechanicsService {
 
-    // Calculating position for right now
-    public Map<String, Object> getSatellitePosition(Satellite sat) {
-        try {
-            // Converting DB String to Orekit TLE object
-            TLE tle = new TLE(sat.getLine1(), sat.getLine2());
+    private final EphemerisKernel ephemerisKernel;
+    private final PropagationService propagationService;
 
-            // Setting up the math engine
-            TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle);
+    public OrbitalMechanicsService(EphemerisKernel ephemerisKernel, PropagationService propagationService) {
+        this.ephemerisKernel = ephemerisKernel;
+        this.propagationService = propagationService;
+    }
 
-            // Getting current time (UTC) using proper Orekit constructor
-            AbsoluteDate currentDate = new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC());
+    // Bulk positions: primitive kernel first, maps built only at the JSON edge.
+    // Always SGP4: the whole catalog at display precision, never the numerical pool
+    public List<Map<String, Object>> getSatellitePositions(CatalogSnapshot catalog) {
+        return getSatellitePositions(catalog, new AbsoluteDate(new java.util.Date(), TimeScalesFactory.getUTC()));
+    }
 
-            // Calculating 3D Position
-            Vector3D position = propagator.getPVCoordinates(currentDate).getPosition();
+    public List<Map<String, Object>> getSatellitePositions(CatalogSnapshot catalog, AbsoluteDate currentDate) {
+        TLEPropagator[] propagators = ephemerisKernel.createPropagators(catalog);
+        EphemerisBuffer states = new EphemerisBuffer(propagators.length);
+        ephemerisKernel.propagate(propagators, currentDate, states, true);
+
+        List<Map<String, Object>> positions = new ArrayList<>(propagators.length);
+        for (int i = 0; i < propagators.length; i++) {
+            if (!states.valid[i]) continue;
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("id", catalog.id(i));
+            data.put("name", catalog.name(i));
+            data.put("latitude", states.lat[i]);
+            data.put("longitude", states.lon[i]);
+            data.put("altitude", states.alt[i]);
+            data.put("velocity_km_s", states.speed(i) / 1000.0);
+            data.put("type", catalog.type(i));
+            positions.add(data);
+        }
+        return positions;
+    }
+
+    // Calculating position at an arbitrary instant (used for historical "as of" queries).
+    // Goes through the fidelity layer, so protected assets are integrated numerically within the budget
+    public Map<String, Object> getPositionAt(Satellite sat, AbsoluteDate currentDate) {
+        try {
+            PropagationService.PropagationResult result = propagationService.propagate(sat, currentDate);
+
+            // Both fidelities report in TEME
+            Vector3D position = result.pv().getPosition();
 
             // Converting to Latitude/Longitude
             Frame earthFrame = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
@@ -45,13 +75,8 @@ public class OrbitalMechanicsService {
                     Constants.WGS84_EARTH_FLATTENING,
                     earthFrame);
 
-            GeodeticPoint point = earth.transform(position, FramesFactory.getEME2000(), currentDate);
-
-            // Packing into a Map for JSON
-            // Calculate a very simple instantaneous velocity estimate (m/s)
-            AbsoluteDate futureDate = currentDate.shiftedBy(1.0);
-            Vector3D futurePosition = propagator.getPVCoordinates(futureDate).getPosition();
-            double velocity_m_s = position.distance(futurePosition);
+            GeodeticPoint point = earth.transform(position, FramesFactory.getTEME(), currentDate);
+            double velocity_m_s = result.pv().getVelocity().getNorm();
 
             Map<String, Object> data = new HashMap<>();
             data.put("id", sat.getId());
@@ -60,6 +85,7 @@ public class OrbitalMechanicsService {
             data.put("longitude", Math.toDegrees(point.getLongitude()));
             data.put("altitude", point.getAltitude() / 1000.0);
             data.put("velocity_km_s", velocity_m_s / 1000.0);
+            data.put("fidelity", result.fidelity().name());
 
             return data;
 
@@ -70,7 +96,7 @@ public class OrbitalMechanicsService {
         }
     }
 
-    // Temporal Propagation: Predicting position at future timestamp
+    // Temporal Propagation: Predicting position at future timestamp (SGP4; orbit traces sample 100 of these)
     public Map<String, Object> getFuturePosition(Satellite sat, double secondsFromNow) {
         try {
             TLE tle = new TLE(sat.getLine1(), sat.getLine2());
@@ -83,11 +109,11 @@ public class OrbitalMechanicsService {
             // Calculate position at future timestamp
             Vector3D position = propagator.getPVCoordinates(futureDate).getPosition();
 
-            // Convert to lat/lon/alt
+            // Convert to lat/lon/alt; SGP4 output is in TEME, the same frame the kernel and getPositionAt use
             Frame earthFrame = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
             BodyShape earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
                     Constants.WGS84_EARTH_FLATTENING, earthFrame);
-            GeodeticPoint point = earth.transform(position, FramesFactory.getEME2000(), futureDate);
+            GeodeticPoint point = earth.transform(position, FramesFactory.getTEME(), futureDate);
 
             Map<String, Object> data = new HashMap<>();
             data.put("name", sat.getName());
@@ -0,0 +1,24 @@
+package com.orbital.backend.service;
+
+import org.springframework.http.HttpStatus;
+
+// Raised by a bulkhead when it sheds load; carries the status and Retry-After to send back
+public class OverloadedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public OverloadedException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
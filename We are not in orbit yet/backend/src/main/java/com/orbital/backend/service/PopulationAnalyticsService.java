@@ -0,0 +1,347 @@
+package com.orbital.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.orbital.backend.model.Satellite;
+import com.orbital.backend.model.TleHistory;
+
+// Pre-aggregated population histograms and grids, maintained incrementally and served from memory
+@Service
+public class PopulationAnalyticsService {
+
+    private static final double EARTH_RADIUS_KM = Constants.WGS84_EARTH_EQUATORIAL_RADIUS / 1000.0;
+    private static final String[] TYPES = { "STATION", "DEBRIS", "OTHER" };
+    private static final int INCLINATION_BANDS_MAX_DEG = 180;
+
+    private final CatalogService catalogService;
+    private final EphemerisKernel ephemerisKernel;
+
+    @Value("${orbital.analytics.shell-width-km:50}")
+    private int shellWidthKm;
+
+    // Objects above this mean altitude (MEO, GEO) share one overflow shell
+    @Value("${orbital.analytics.max-altitude-km:2000}")
+    private int maxAltitudeKm;
+
+    @Value("${orbital.analytics.inclination-band-deg:5}")
+    private int inclinationBandDeg;
+
+    @Value("${orbital.analytics.occupancy-cell-deg:5}")
+    private int occupancyCellDeg;
+
+    @Value("${orbital.analytics.history-samples:1440}")
+    private int historySamples;
+
+    // Where each object currently counts, so a new TLE can move it without recounting everything
+    private record Contribution(int type, int shell, int band) {}
+
+    // One retained point of the time series
+    private record Sample(Instant at, long catalogVersion, int[] typeCounts, int[] shellCounts, int occupiedCells) {}
+
+    private final Map<Integer, Contribution> contributions = new HashMap<>();
+    private int[][] shellCounts;   // [type][shell]
+    private int[][] bandCounts;    // [type][band]
+    private int[][] altIncGrid;    // [shell][band], all types
+    private int[] typeCounts;
+
+    // Lat x lon occupancy, updated per object on every ephemeris tick
+    private final Object occupancyLock = new Object();
+    private long occupancyVersion = -1;
+    private TLEPropagator[] propagators = new TLEPropagator[0];
+    private EphemerisBuffer buffer = new EphemerisBuffer(0);
+    private int[] cellOf = new int[0];
+    private int[] occupancy = new int[0];
+    private Instant occupancyAt;
+    private long lastTickMillis;
+
+    private final Deque<Sample> history = new ArrayDeque<>();
+
+    public PopulationAnalyticsService(CatalogService catalogService, EphemerisKernel ephemerisKernel) {
+        this.catalogService = catalogService;
+        this.ephemerisKernel = ephemerisKernel;
+    }
+
+    private int shellCount() {
+        return maxAltitudeKm / shellWidthKm + 1;
+    }
+
+    private int bandCount() {
+        return INCLINATION_BANDS_MAX_DEG / inclinationBandDeg;
+    }
+
+    private int latCells() {
+        return 180 / occupancyCellDeg;
+    }
+
+    private int lonCells() {
+        return 360 / occupancyCellDeg;
+    }
+
+    // Seeds the histograms from the catalog once it is loaded
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public synchronized void seed() {
+        long start = System.currentTimeMillis();
+        shellCounts = new int[TYPES.length][shellCount()];
+        bandCounts = new int[TYPES.length][bandCount()];
+        altIncGrid = new int[shellCount()][bandCount()];
+        typeCounts = new int[TYPES.length];
+        contributions.clear();
+
+        CatalogSnapshot catalog = catalogService.snapshot();
+        for (int i = 0; i < catalog.size(); i++) {
+            Satellite sat = catalog.toSatellite(i);
+            update(sat.getNoradId(), sat.getType(), sat.getLine1(), sat.getLine2());
+        }
+        System.out.println("Population analytics seeded with " + contributions.size() + " objects ("
+                + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    // Incremental: each changed object moves its one count between buckets
+    @EventListener
+    public synchronized void onTleSync(TleSyncEvent event) {
+        if (shellCounts == null) return;
+        for (TleSyncEvent.Change change : event.changes()) {
+            TleHistory version = change.version();
+            update(version.getNoradId(), change.type(), version.getLine1(), version.getLine2());
+        }
+        prune(catalogService.snapshot());
+    }
+
+    // Objects that left the catalog take their counts with them; the snapshot is rebuilt before this listener runs
+    private void prune(CatalogSnapshot catalog) {
+        Iterator<Map.Entry<Integer, Contribution>> it = contributions.entrySet().iterator();
+        int removed = 0;
+        while (it.hasNext()) {
+            Map.Entry<Integer, Contribution> entry = it.next();
+            if (catalog.indexOfNoradId(entry.getKey()) >= 0) continue;
+            apply(entry.getValue(), -1);
+            it.remove();
+            removed++;
+        }
+        if (removed > 0) {
+            System.out.println("Population analytics dropped " + removed + " objects no longer in the catalog");
+        }
+    }
+
+    private void update(Integer noradId, String type, String line1, String line2) {
+        if (noradId == null || noradId < 0) return;
+        Contribution next;
+        try {
+            TLE tle = new TLE(line1, line2);
+            double n = tle.getMeanMotion();
+            double a = Math.cbrt(Constants.WGS84_EARTH_MU / (n * n));
+            double altitudeKm = a / 1000.0 - EARTH_RADIUS_KM;
+            double inclinationDeg = Math.toDegrees(tle.getI());
+
+            int shell = (int) Math.min(shellCount() - 1, Math.max(0.0, altitudeKm) / shellWidthKm);
+            int band = (int) Math.min(bandCount() - 1, inclinationDeg / inclinationBandDeg);
+            next = new Contribution(typeIndex(type), shell, band);
+        } catch (Exception e) {
+            return;
+        }
+
+        Contribution previous = contributions.put(noradId, next);
+        if (next.equals(previous)) return;
+        if (previous != null) apply(previous, -1);
+        apply(next, 1);
+    }
+
+    private void apply(Contribution c, int delta) {
+        shellCounts[c.type()][c.shell()] += delta;
+        bandCounts[c.type()][c.band()] += delta;
+        altIncGrid[c.shell()][c.band()] += delta;
+        typeCounts[c.type()] += delta;
+    }
+
+    private static int typeIndex(String type) {
+        for (int t = 0; t < TYPES.length - 1; t++) {
+            if (TYPES[t].equals(type)) return t;
+        }
+        return TYPES.length - 1;
+    }
+
+    // Ephemeris tick: propagate the catalog once and move only the objects that changed cell
+    @Scheduled(fixedDelayString = "${orbital.analytics.tick-ms:60000}",
+               initialDelayString = "${orbital.analytics.tick-initial-delay-ms:30000}")
+    public void tick() {
+        CatalogSnapshot catalog = catalogService.snapshot();
+        if (catalog.size() == 0) return;
+
+        long start = System.currentTimeMillis();
+        AbsoluteDate now = new AbsoluteDate(new Date(), TimeScalesFactory.getUTC());
+        int occupied;
+        synchronized (occupancyLock) {
+            // A new catalog means new slots; parse its TLEs once and recount from scratch
+            if (catalog.version() != occupancyVersion) {
+                propagators = ephemerisKernel.createPropagators(catalog);
+                buffer = new EphemerisBuffer(propagators.length);
+                cellOf = new int[propagators.length];
+                Arrays.fill(cellOf, -1);
+                occupancy = new int[latCells() * lonCells()];
+                occupancyVersion = catalog.version();
+            }
+
+            ephemerisKernel.propagate(propagators, now, buffer, true);
+            for (int i = 0; i < propagators.length; i++) {
+                int cell = buffer.valid[i] ? cellIndex(buffer.lat[i], buffer.lon[i]) : -1;
+                if (cell == cellOf[i]) continue;
+                if (cellOf[i] >= 0) occupancy[cellOf[i]]--;
+                if (cell >= 0) occupancy[cell]++;
+                cellOf[i] = cell;
+            }
+            occupancyAt = Instant.now();
+            lastTickMillis = System.currentTimeMillis() - start;
+
+            occupied = 0;
+            for (int count : occupancy) {
+                if (count > 0) occupied++;
+            }
+        }
+
+        recordSample(catalog.version(), occupied);
+    }
+
+    private int cellIndex(double latDeg, double lonDeg) {
+        int row = (int) Math.min(latCells() - 1, Math.max(0.0, (latDeg + 90.0) / occupancyCellDeg));
+        int col = (int) Math.min(lonCells() - 1, Math.max(0.0, (lonDeg + 180.0) / occupancyCellDeg));
+        return row * lonCells() + col;
+    }
+
+    private synchronized void recordSample(long catalogVersion, int occupiedCells) {
+        if (historySamples <= 0 || shellCounts == null) return;
+        int[] shells = new int[shellCount()];
+        for (int[] perType : shellCounts) {
+            for (int s = 0; s < shells.length; s++) shells[s] += perType[s];
+        }
+        history.addLast(new Sample(Instant.now(), catalogVersion, typeCounts.clone(), shells, occupiedCells));
+        while (history.size() > historySamples) history.removeFirst();
+    }
+
+    public synchronized Map<String, Object> getPopulation() {
+        Map<String, Object> data = new HashMap<>();
+        if (shellCounts == null) return data;
+
+        Map<String, Object> types = new HashMap<>();
+        int total = 0;
+        for (int t = 0; t < TYPES.length; t++) {
+            types.put(TYPES[t], typeCounts[t]);
+            total += typeCounts[t];
+        }
+
+        // Spatial density per spherical shell (objects per 10^9 km^3), the usual proxy for collision risk
+        List<Map<String, Object>> shells = new ArrayList<>();
+        for (int s = 0; s < shellCount(); s++) {
+            Map<String, Object> shell = new HashMap<>();
+            int count = 0;
+            Map<String, Object> byType = new HashMap<>();
+            for (int t = 0; t < TYPES.length; t++) {
+                byType.put(TYPES[t], shellCounts[t][s]);
+                count += shellCounts[t][s];
+            }
+            boolean overflow = s == shellCount() - 1;
+            shell.put("fromKm", s * shellWidthKm);
+            shell.put("toKm", overflow ? null : (s + 1) * shellWidthKm);
+            shell.put("count", count);
+            shell.put("byType", byType);
+            if (!overflow) {
+                double r0 = EARTH_RADIUS_KM + s * shellWidthKm;
+                double r1 = r0 + shellWidthKm;
+                double volume = 4.0 / 3.0 * Math.PI * (r1 * r1 * r1 - r0 * r0 * r0);
+                shell.put("densityPer1e9Km3", Math.round(count / volume * 1e9 * 1000.0) / 1000.0);
+            }
+            shells.add(shell);
+        }
+
+        List<Map<String, Object>> bands = new ArrayList<>();
+        for (int b = 0; b < bandCount(); b++) {
+            Map<String, Object> band = new HashMap<>();
+            int count = 0;
+            Map<String, Object> byType = new HashMap<>();
+            for (int t = 0; t < TYPES.length; t++) {
+                byType.put(TYPES[t], bandCounts[t][b]);
+                count += bandCounts[t][b];
+            }
+            band.put("fromDeg", b * inclinationBandDeg);
+            band.put("toDeg", (b + 1) * inclinationBandDeg);
+            band.put("count", count);
+            band.put("byType", byType);
+            bands.add(band);
+        }
+
+        Map<String, Object> grid = new HashMap<>();
+        grid.put("shellWidthKm", shellWidthKm);
+        grid.put("inclinationBandDeg", inclinationBandDeg);
+        grid.put("counts", deepCopy(altIncGrid)); // rows = shells, columns = inclination bands
+
+        data.put("total", total);
+        data.put("byType", types);
+        data.put("altitudeShells", shells);
+        data.put("inclinationBands", bands);
+        data.put("altitudeInclination", grid);
+        return data;
+    }
+
+    public Map<String, Object> getOccupancy() {
+        Map<String, Object> data = new HashMap<>();
+        synchronized (occupancyLock) {
+            int[][] grid = new int[latCells()][];
+            if (occupancy.length == latCells() * lonCells()) {
+                for (int row = 0; row < grid.length; row++) {
+                    grid[row] = Arrays.copyOfRange(occupancy, row * lonCells(), (row + 1) * lonCells());
+                }
+            }
+            data.put("cellDeg", occupancyCellDeg);
+            data.put("counts", occupancyAt != null ? grid : new int[0][]); // rows from -90 lat, columns from -180 lon
+            data.put("at", occupancyAt != null ? occupancyAt.toString() : null);
+            data.put("catalogVersion", occupancyVersion);
+            data.put("tickMs", lastTickMillis);
+        }
+        return data;
+    }
+
+    public synchronized List<Map<String, Object>> getHistory(int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        Iterator<Sample> it = history.descendingIterator();
+        while (it.hasNext() && result.size() < limit) {
+            Sample sample = it.next();
+            Map<String, Object> point = new HashMap<>();
+            Map<String, Object> types = new HashMap<>();
+            for (int t = 0; t < TYPES.length; t++) types.put(TYPES[t], sample.typeCounts()[t]);
+            point.put("at", sample.at().toString());
+            point.put("catalogVersion", sample.catalogVersion());
+            point.put("byType", types);
+            point.put("shellCounts", sample.shellCounts());
+            point.put("occupiedCells", sample.occupiedCells());
+            result.add(point);
+        }
+        return result;
+    }
+
+    private static int[][] deepCopy(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
+    }
+}
@@ -0,0 +1,273 @@
+package com.orbital.backend.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.forces.drag.DragForce;
+import org.orekit.forces.drag.IsotropicDrag;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.models.earth.atmosphere.HarrisPriester;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.orbital.backend.model.Satellite;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Chooses between cheap SGP4 and Orekit numerical propagation, keeping the heavy work on its own pool
+@Service
+public class PropagationService {
+
+    public enum Fidelity { SGP4, NUMERICAL }
+
+    public record PropagationResult(PVCoordinates pv, Fidelity fidelity) {}
+
+    // Integrator settings: 1 m position tolerance, steps between 1 ms and 5 min
+    private static final double POSITION_TOLERANCE_M = 1.0;
+    private static final double MIN_STEP_S = 0.001;
+    private static final double MAX_STEP_S = 300.0;
+
+    // SGP4 reference density rho0 (kg/m^2 per Earth radius): B* = rho0 * (Cd * A / m) / 2
+    private static final double BSTAR_REFERENCE_DENSITY = 0.15696615;
+
+    @Value("${orbital.propagation.numerical.threads:2}")
+    private int threads;
+
+    @Value("${orbital.propagation.numerical.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${orbital.propagation.numerical.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${orbital.propagation.numerical.gravity-degree:8}")
+    private int gravityDegree;
+
+    // Nominal mass; with only gravity and drag modelled it matters through the area-to-mass ratio alone
+    @Value("${orbital.propagation.numerical.mass-kg:1000}")
+    private double massKg;
+
+    // Used only when the TLE carries no positive B* to derive the object's own ballistic coefficient from
+    @Value("${orbital.propagation.numerical.drag-area-m2:10}")
+    private double dragAreaM2;
+
+    @Value("${orbital.propagation.numerical.drag-coefficient:2.2}")
+    private double dragCoefficient;
+
+    // Name fragments identifying the assets we protect (matched case-insensitively)
+    @Value("${orbital.propagation.protected-assets:ISS,ZARYA}")
+    private String[] protectedAssets;
+
+    private ThreadPoolExecutor executor;
+
+    // Shared, immutable force model inputs (loaded once on first numerical propagation)
+    private volatile NormalizedSphericalHarmonicsProvider gravityProvider;
+    private volatile HarrisPriester atmosphere;
+    private volatile Frame earthFrame;
+
+    private final AtomicLong numericalCompleted = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private final AtomicLong defaultBallistic = new AtomicLong();
+
+    // Thrown from the step handler to stop an integration whose caller has stopped waiting
+    private static final class BudgetExceededException extends RuntimeException {
+        BudgetExceededException() {
+            super("Numerical propagation budget exceeded", null, false, false);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "high-fidelity-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        System.out.println("High fidelity propagation pool: " + threads + " threads, queue " + queueCapacity
+                + ", budget " + timeoutMs + "ms, protected assets " + Arrays.toString(protectedAssets));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Fidelity selectFidelity(Satellite sat) {
+        return isProtectedAsset(sat) ? Fidelity.NUMERICAL : Fidelity.SGP4;
+    }
+
+    public boolean isProtectedAsset(Satellite sat) {
+        if (sat.getName() == null) return false;
+        String name = sat.getName().toUpperCase();
+        for (String asset : protectedAssets) {
+            if (name.contains(asset.trim().toUpperCase())) return true;
+        }
+        return false;
+    }
+
+    // Position/velocity in the TLE (TEME) frame using the fidelity chosen for this object class
+    public PropagationResult propagate(Satellite sat, AbsoluteDate date) {
+        if (selectFidelity(sat) == Fidelity.SGP4) {
+            return new PropagationResult(propagateSgp4(sat, date), Fidelity.SGP4);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        return resolve(submitNumerical(sat, date, deadline), sat, date, deadline);
+    }
+
+    public PVCoordinates propagateSgp4(Satellite sat, AbsoluteDate date) {
+        TLE tle = new TLE(sat.getLine1(), sat.getLine2());
+        return TLEPropagator.selectExtrapolator(tle).getPVCoordinates(date);
+    }
+
+    // Queues a numerical propagation on the heavy pool; a full queue yields an already-failed future.
+    // The integration itself stops at the deadline, so abandoned work does not keep a pool thread busy.
+    public Future<PVCoordinates> submitNumerical(Satellite sat, AbsoluteDate date, long deadlineNanos) {
+        try {
+            return executor.submit(() -> propagateNumerical(sat, date, deadlineNanos));
+        } catch (RejectedExecutionException e) {
+            rejections.incrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Waits for a numerical result until the deadline, falling back to SGP4 so callers always get an answer
+    public PropagationResult resolve(Future<PVCoordinates> future, Satellite sat, AbsoluteDate date, long deadlineNanos) {
+        try {
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            return new PropagationResult(future.get(remaining, TimeUnit.NANOSECONDS), Fidelity.NUMERICAL);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.incrementAndGet();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (e.getCause() instanceof BudgetExceededException) {
+                timeouts.incrementAndGet();
+            } else if (!(e.getCause() instanceof RejectedExecutionException)) {
+                failures.incrementAndGet();
+            }
+        }
+        return new PropagationResult(propagateSgp4(sat, date), Fidelity.SGP4);
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", threads);
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("completed", numericalCompleted.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("rejected", rejections.get());
+        stats.put("failed", failures.get());
+        stats.put("abandoned", abandoned.get());
+        stats.put("defaultBallisticCoefficient", defaultBallistic.get());
+        stats.put("timeoutMs", timeoutMs);
+        stats.put("protectedAssets", List.of(protectedAssets));
+        return stats;
+    }
+
+    private PVCoordinates propagateNumerical(Satellite sat, AbsoluteDate date, long deadlineNanos) {
+        // Work that waited in the queue past its deadline is dropped without starting
+        checkBudget(deadlineNanos);
+
+        TLE tle = new TLE(sat.getLine1(), sat.getLine2());
+        SpacecraftState tleState = TLEPropagator.selectExtrapolator(tle).getInitialState();
+
+        // Integrate in EME2000 starting from the SGP4 state at the TLE epoch
+        Frame inertial = FramesFactory.getEME2000();
+        NormalizedSphericalHarmonicsProvider gravity = gravityProvider();
+        Orbit orbit = new CartesianOrbit(tleState.getPVCoordinates(inertial), inertial, gravity.getMu());
+
+        double[][] tolerances = NumericalPropagator.tolerances(POSITION_TOLERANCE_M, orbit, OrbitType.CARTESIAN);
+        DormandPrince853Integrator integrator =
+                new DormandPrince853Integrator(MIN_STEP_S, MAX_STEP_S, tolerances[0], tolerances[1]);
+
+        NumericalPropagator propagator = new NumericalPropagator(integrator);
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.setInitialState(new SpacecraftState(orbit, massKg));
+        propagator.addForceModel(new HolmesFeatherstoneAttractionModel(earthFrame, gravity));
+        propagator.addForceModel(new DragForce(atmosphere, new IsotropicDrag(dragArea(tle), dragCoefficient)));
+
+        // NumericalPropagator ignores interrupts, so check the budget (and cancellation) after every step
+        propagator.setStepHandler(interpolator -> checkBudget(deadlineNanos));
+
+        // Report in TEME so results line up with the SGP4 positions used everywhere else
+        PVCoordinates pv = propagator.propagate(date).getPVCoordinates(FramesFactory.getTEME());
+        numericalCompleted.incrementAndGet();
+        return pv;
+    }
+
+    // Drag area giving this object the ballistic coefficient Cd * A / m implied by its own B*, so a
+    // rocket body and a CubeSat decay differently; B* is a fitted term and can be zero or negative
+    private double dragArea(TLE tle) {
+        double bStar = tle.getBStar();
+        if (!(bStar > 0)) {
+            defaultBallistic.incrementAndGet();
+            return dragAreaM2;
+        }
+        double ballisticCoefficient = 2.0 * bStar / BSTAR_REFERENCE_DENSITY; // m^2/kg
+        return ballisticCoefficient * massKg / dragCoefficient;
+    }
+
+    private void checkBudget(long deadlineNanos) {
+        if (System.nanoTime() - deadlineNanos > 0 || Thread.currentThread().isInterrupted()) {
+            abandoned.incrementAndGet();
+            throw new BudgetExceededException();
+        }
+    }
+
+    private NormalizedSphericalHarmonicsProvider gravityProvider() {
+        if (gravityProvider == null) {
+            synchronized (this) {
+                if (gravityProvider == null) {
+                    Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+                    OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                            Constants.WGS84_EARTH_FLATTENING, itrf);
+                    earthFrame = itrf;
+                    atmosphere = new HarrisPriester(CelestialBodyFactory.getSun(), earth);
+                    gravityProvider = GravityFieldFactory.getNormalizedProvider(gravityDegree, gravityDegree);
+                }
+            }
+        }
+        return gravityProvider;
+    }
+}
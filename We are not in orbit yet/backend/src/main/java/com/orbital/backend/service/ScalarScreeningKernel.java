@@ -0,0 +1,41 @@
+package com.orbital.backend.service;
+
+// Portable fallback, also used for the tail the vector kernel cannot fill a full lane batch with
+public class ScalarScreeningKernel implements ScreeningKernel {
+
+    @Override
+    public int screen(EphemerisBuffer states, int count, double[] primary, double minDistanceSq, double maxDistanceSq,
+                      int[] hits, double[] distanceSq, double[] rangeRate) {
+        return screenRange(states, 0, count, primary, minDistanceSq, maxDistanceSq, hits, distanceSq, rangeRate, 0);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static int screenRange(EphemerisBuffer states, int from, int to, double[] primary,
+                           double minDistanceSq, double maxDistanceSq,
+                           int[] hits, double[] distanceSq, double[] rangeRate, int found) {
+        double px = primary[0];
+        double py = primary[1];
+        double pz = primary[2];
+        int n = found;
+        for (int i = from; i < to; i++) {
+            double dx = states.x[i] - px;
+            double dy = states.y[i] - py;
+            double dz = states.z[i] - pz;
+            double d2 = dx * dx + dy * dy + dz * dz;
+
+            // No sqrt unless the object is inside the threshold
+            if (d2 > minDistanceSq && d2 <= maxDistanceSq) {
+                double rv = dx * (states.vx[i] - primary[3]) + dy * (states.vy[i] - primary[4]) + dz * (states.vz[i] - primary[5]);
+                hits[n] = i;
+                distanceSq[n] = d2;
+                rangeRate[n] = rv / Math.sqrt(d2);
+                n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,16 @@
+package com.orbital.backend.service;
+
+// Distance screening of one primary against a catalog slice held in an EphemerisBuffer
+public interface ScreeningKernel {
+
+    /**
+     * Finds objects in [0, count) with minDistanceSq < |r - r_primary|^2 <= maxDistanceSq.
+     * For hit k, writes its index to hits[k], squared distance (m^2) to distanceSq[k] and
+     * range-rate (m/s, positive when separating) to rangeRate[k]. Invalid slots hold NaN
+     * positions and never match. Returns the number of hits.
+     */
+    int screen(EphemerisBuffer states, int count, double[] primary, double minDistanceSq, double maxDistanceSq,
+               int[] hits, double[] distanceSq, double[] rangeRate);
+
+    String name();
+}
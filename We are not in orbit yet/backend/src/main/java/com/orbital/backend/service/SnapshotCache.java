@@ -0,0 +1,161 @@
+package com.orbital.backend.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+// Caches expensive results per time quantum; concurrent callers for the same quantum share one computation
+@Service
+public class SnapshotCache {
+
+    // Enough for a request that started in the previous quantum to finish without evicting the current one
+    static final int MAX_QUANTA_PER_NAME = 4;
+
+    public record Snapshot<T>(T value, long quantumStart, long quantumMs, String etag) {
+
+        public long expiresAt() {
+            return quantumStart + quantumMs;
+        }
+
+        // If-None-Match uses weak comparison: W/ is ignored, any member of a list may match, * matches anything
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) return false;
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) return true;
+                if (tag.startsWith("W/")) tag = tag.substring(2);
+                if (tag.equals(etag)) return true;
+            }
+            return false;
+        }
+
+        // Clients may reuse the body until the quantum ends; a matching ETag gets a bodiless 304
+        public ResponseEntity<T> toResponse(String ifNoneMatch) {
+            long remainingMs = Math.max(0L, expiresAt() - System.currentTimeMillis());
+            CacheControl cacheControl = CacheControl.maxAge(remainingMs / 1000, TimeUnit.SECONDS).cachePrivate();
+
+            if (matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(value);
+        }
+    }
+
+    private record Key(String name, long version, long quantumStart) {
+    }
+
+    private static final Comparator<Key> OLDEST_FIRST =
+            Comparator.comparingLong(Key::quantumStart).thenComparingLong(Key::version);
+
+    private static final class Counters {
+        final AtomicLong computed = new AtomicLong();
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong coalesced = new AtomicLong();
+    }
+
+    private final Map<Key, CompletableFuture<Snapshot<?>>> entries = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Key>> keysByName = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    // Hits and coalesced callers get the shared future back without blocking a thread; only the caller that
+    // owns the computation hands it to admission (e.g. a bulkhead) to run. compute receives the quantum start
+    // (epoch ms) and must treat it as "now".
+    public <T> CompletableFuture<Snapshot<T>> get(String name, long quantumMs, long version,
+                                                 Function<Supplier<T>, CompletableFuture<T>> admission,
+                                                 LongFunction<T> compute) {
+        return get(name, quantumMs, version, admission, compute, System.currentTimeMillis());
+    }
+
+    <T> CompletableFuture<Snapshot<T>> get(String name, long quantumMs, long version,
+                                          Function<Supplier<T>, CompletableFuture<T>> admission,
+                                          LongFunction<T> compute, long now) {
+        long quantumStart = now - Math.floorMod(now, quantumMs);
+        Key key = new Key(name, version, quantumStart);
+        Counters stats = counters.computeIfAbsent(name, n -> new Counters());
+
+        CompletableFuture<Snapshot<?>> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot<?>> existing = entries.putIfAbsent(key, mine);
+        if (existing != null) {
+            (existing.isDone() ? stats.hits : stats.coalesced).incrementAndGet();
+            return cast(existing);
+        }
+        evictOldest(key);
+
+        stats.computed.incrementAndGet();
+        String etag = "\"" + name + "-" + version + "-" + quantumStart + "\"";
+        CompletableFuture<T> running;
+        try {
+            running = admission.apply(() -> compute.apply(quantumStart));
+        } catch (RuntimeException e) {
+            // Rejected before it was queued: waiters that joined in the meantime see the same rejection
+            discard(key, mine, e);
+            throw e;
+        }
+        running.whenComplete((value, error) -> {
+            if (error != null) {
+                discard(key, mine, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                mine.complete(new Snapshot<>(value, quantumStart, quantumMs, etag));
+            }
+        });
+        return cast(mine);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<Snapshot<T>> cast(CompletableFuture<Snapshot<?>> future) {
+        return (CompletableFuture<Snapshot<T>>) (CompletableFuture<?>) future;
+    }
+
+    // Do not pin a failure for the whole quantum; the next caller retries
+    private void discard(Key key, CompletableFuture<Snapshot<?>> future, Throwable error) {
+        entries.remove(key, future);
+        keysByName.get(key.name()).remove(key);
+        future.completeExceptionally(error);
+    }
+
+    // Bounded per name by age, so a late caller for an older quantum never pushes out a newer one
+    private void evictOldest(Key added) {
+        NavigableSet<Key> keys = keysByName.computeIfAbsent(added.name(), n -> new ConcurrentSkipListSet<>(OLDEST_FIRST));
+        keys.add(added);
+        while (keys.size() > MAX_QUANTA_PER_NAME) {
+            Key oldest = keys.pollFirst();
+            if (oldest == null) break;
+            entries.remove(oldest);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        counters.forEach((name, c) -> {
+            Map<String, Object> entry = new HashMap<>();
+            long computed = c.computed.get();
+            long hits = c.hits.get();
+            long coalesced = c.coalesced.get();
+            long requests = computed + hits + coalesced;
+            entry.put("requests", requests);
+            entry.put("computed", computed);
+            entry.put("hits", hits);
+            entry.put("coalesced", coalesced);
+            NavigableSet<Key> keys = keysByName.get(name);
+            entry.put("cachedQuanta", keys == null ? 0 : keys.size());
+            entry.put("savedRatio", requests == 0 ? 0.0 : Math.round((hits + coalesced) * 1000.0 / requests) / 1000.0);
+            stats.put(name, entry);
+        });
+        return stats;
+    }
+}
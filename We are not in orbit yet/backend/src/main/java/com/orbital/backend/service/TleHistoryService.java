@@ -0,0 +1,146 @@
+package com.orbital.backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.orbital.backend.model.Satellite;
+import com.orbital.backend.model.TleHistory;
+import com.orbital.backend.repository.TleHistoryRepository;
+
+@Service
+public class TleHistoryService {
+
+    private final TleHistoryRepository historyRepository;
+    private final OrbitalMechanicsService orbitalService;
+    private final CatalogService catalogService;
+
+    @Value("${orbital.tle-history.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${orbital.tle-history.compaction-after-days:30}")
+    private int compactionAfterDays;
+
+    public TleHistoryService(TleHistoryRepository historyRepository, OrbitalMechanicsService orbitalService,
+                             CatalogService catalogService) {
+        this.historyRepository = historyRepository;
+        this.orbitalService = orbitalService;
+        this.catalogService = catalogService;
+    }
+
+    // Appends a version for every satellite whose TLE epoch is newer than the one it last recorded.
+    // Updates tleEpoch on the satellites, so callers save them after this returns.
+    public List<TleSyncEvent.Change> recordVersions(List<Satellite> satellites) {
+        // The same object can appear more than once within one batch
+        Map<Integer, Instant> seenThisBatch = new HashMap<>();
+
+        Instant now = Instant.now();
+        List<TleHistory> versions = new ArrayList<>();
+        List<TleSyncEvent.Change> changes = new ArrayList<>();
+        for (Satellite sat : satellites) {
+            Instant epoch = epochOf(sat);
+            if (epoch == null || sat.getNoradId() == null) continue;
+
+            Instant latest = seenThisBatch.getOrDefault(sat.getNoradId(), sat.getTleEpoch());
+            if (latest != null && !epoch.isAfter(latest)) continue;
+
+            // Objects new to the catalog (or predating tleEpoch) may already have this row
+            if (latest == null && historyRepository.existsByNoradIdAndEpoch(sat.getNoradId(), epoch)) {
+                sat.setTleEpoch(epoch);
+                seenThisBatch.put(sat.getNoradId(), epoch);
+                continue;
+            }
+
+            TleHistory version = new TleHistory();
+            version.setNoradId(sat.getNoradId());
+            version.setEpoch(epoch);
+            version.setLine1(sat.getLine1());
+            version.setLine2(sat.getLine2());
+            version.setIngestedAt(now);
+            versions.add(version);
+            changes.add(new TleSyncEvent.Change(version, sat.getName(), sat.getType()));
+
+            sat.setTleEpoch(epoch);
+            seenThisBatch.put(sat.getNoradId(), epoch);
+        }
+
+        if (!versions.isEmpty()) {
+            historyRepository.saveAll(versions);
+        }
+        return changes;
+    }
+
+    // Picks the stored version whose epoch is closest to the requested time
+    public Optional<TleHistory> findClosest(Integer noradId, Instant at) {
+        Optional<TleHistory> before = historyRepository.findFirstByNoradIdAndEpochLessThanEqualOrderByEpochDesc(noradId, at);
+        Optional<TleHistory> after = historyRepository.findFirstByNoradIdAndEpochGreaterThanOrderByEpochAsc(noradId, at);
+
+        if (before.isEmpty()) return after;
+        if (after.isEmpty()) return before;
+
+        Duration toBefore = Duration.between(before.get().getEpoch(), at);
+        Duration toAfter = Duration.between(at, after.get().getEpoch());
+        return toAfter.compareTo(toBefore) < 0 ? after : before;
+    }
+
+    // Time-travel query: position of an object as it would have been computed at the given instant
+    public Map<String, Object> getPositionAsOf(Integer noradId, Instant at) {
+        TleHistory version = findClosest(noradId, at).orElse(null);
+        if (version == null) return null;
+
+        // Name and type are not versioned; take them from the current catalog
+        CatalogSnapshot catalog = catalogService.snapshot();
+        int index = catalog.indexOfNoradId(noradId);
+
+        Satellite sat = new Satellite();
+        sat.setNoradId(version.getNoradId());
+        sat.setName(index >= 0 ? catalog.name(index) : String.valueOf(noradId));
+        sat.setLine1(version.getLine1());
+        sat.setLine2(version.getLine2());
+        sat.setType(index >= 0 ? catalog.type(index) : null);
+
+        AbsoluteDate date = new AbsoluteDate(java.util.Date.from(at), TimeScalesFactory.getUTC());
+        Map<String, Object> pos = orbitalService.getPositionAt(sat, date);
+        if (pos == null) return null;
+
+        pos.put("noradId", noradId);
+        pos.put("type", sat.getType());
+        pos.put("timestamp", at.toString());
+        pos.put("tleEpoch", version.getEpoch().toString());
+        pos.put("tleAgeHours", Math.round(Duration.between(version.getEpoch(), at).toMinutes() / 6.0) / 10.0);
+        return pos;
+    }
+
+    public List<TleHistory> getVersions(Integer noradId, Instant from, Instant to) {
+        return historyRepository.findByNoradIdAndEpochBetweenOrderByEpochAsc(noradId, from, to);
+    }
+
+    // Nightly retention: drop versions past the retention window, thin older ones to one per day
+    @Scheduled(cron = "${orbital.tle-history.maintenance-cron:0 30 3 * * *}")
+    public void applyRetention() {
+        Instant now = Instant.now();
+        int expired = historyRepository.deleteOlderThan(now.minus(Duration.ofDays(retentionDays)));
+        int compacted = historyRepository.compactOlderThan(now.minus(Duration.ofDays(compactionAfterDays)));
+        System.out.println("TLE history maintenance: " + expired + " expired, " + compacted + " compacted");
+    }
+
+    private Instant epochOf(Satellite sat) {
+        try {
+            TLE tle = new TLE(sat.getLine1(), sat.getLine2());
+            return tle.getDate().toDate(TimeScalesFactory.getUTC()).toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.orbital.backend.service;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.orekit.propagation.analytical.tle.TLE;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -13,14 +16,22 @@ import com.orbital.backend.repository.SatelliteRepository;
 public class TleService {
 
     private final SatelliteRepository repository;
+    private final TleHistoryService historyService;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate;
 
-    // Professional Space Situational Awareness URLs
-    private final String ACTIVE_URL = "https://celestrak.org/NORAD/elements/gp.php?GROUP=active&FORMAT=tle";
-    private final String DEBRIS_URL = "https://celestrak.org/NORAD/elements/gp.php?GROUP=debris&FORMAT=tle";
+    // Professional Space Situational Awareness URLs (overridable so tests can point at a stub feed)
+    @Value("${orbital.celestrak.active-url:https://celestrak.org/NORAD/elements/gp.php?GROUP=active&FORMAT=tle}")
+    private String activeUrl;
 
-    public TleService(SatelliteRepository repository) {
+    @Value("${orbital.celestrak.debris-url:https://celestrak.org/NORAD/elements/gp.php?GROUP=debris&FORMAT=tle}")
+    private String debrisUrl;
+
+    public TleService(SatelliteRepository repository, TleHistoryService historyService,
+                      ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.historyService = historyService;
+        this.eventPublisher = eventPublisher;
         this.restTemplate = new RestTemplate();
     }
 
@@ -28,17 +39,22 @@ public class TleService {
         System.out.println("COLLISION PREDICTION ENGINE: Starting ETL pipeline...");
         long startTime = System.currentTimeMillis();
         
-        int activeCount = fetchFromUrl(ACTIVE_URL, "STATION");
+        List<TleSyncEvent.Change> newVersions = new ArrayList<>();
+
+        int activeCount = fetchFromUrl(activeUrl, "STATION", newVersions);
         System.out.println("Active satellites: " + activeCount + " objects");
         
-        int debrisCount = fetchFromUrl(DEBRIS_URL, "DEBRIS");
+        int debrisCount = fetchFromUrl(debrisUrl, "DEBRIS", newVersions);
         System.out.println("Debris objects: " + debrisCount + " objects");
         
         long duration = (System.currentTimeMillis() - startTime) / 1000;
         System.out.println("Total tracking: " + repository.count() + " objects (completed in " + duration + "s)");
+
+        // Downstream models update incrementally from just the changed elements
+        eventPublisher.publishEvent(new TleSyncEvent(newVersions));
     }
 
-    private int fetchFromUrl(String url, String type) {
+    private int fetchFromUrl(String url, String type, List<TleSyncEvent.Change> newVersions) {
         try {
             System.out.println("Fetching " + type + " data from CelesTrak...");
             String rawData = restTemplate.getForObject(url, String.class);
@@ -54,6 +70,7 @@ public class TleService {
                 String name = lines[i].trim();
                 String l1 = lines[i+1].trim();
                 String l2 = lines[i+2].trim();
+                Integer noradId = parseNoradId(l1, l2);
 
                 // Check if satellite already exists
                 Satellite existing = repository.findByName(name);
@@ -62,6 +79,7 @@ public class TleService {
                     existing.setLine1(l1);
                     existing.setLine2(l2);
                     existing.setType(type);
+                    existing.setNoradId(noradId);
                     batch.add(existing);
                 } else {
                     // Create new record
@@ -70,12 +88,18 @@ public class TleService {
                     sat.setLine1(l1);
                     sat.setLine2(l2);
                     sat.setType(type);
+                    sat.setNoradId(noradId);
                     batch.add(sat);
                 }
             }
 
-            // Batch save (O(1) database call instead of O(n))
             if (!batch.isEmpty()) {
+                // Keep every epoch we see so past pictures can be replayed later; this also stamps tleEpoch
+                List<TleSyncEvent.Change> versions = historyService.recordVersions(batch);
+                newVersions.addAll(versions);
+                System.out.println("Appended " + versions.size() + " new " + type + " TLE versions to history");
+
+                // Batch save (O(1) database call instead of O(n))
                 repository.saveAll(batch);
                 System.out.println("Batch saved " + batch.size() + " " + type + " objects");
             }
@@ -86,4 +110,12 @@ public class TleService {
             return 0;
         }
     }
+
+    private Integer parseNoradId(String line1, String line2) {
+        try {
+            return new TLE(line1, line2).getSatelliteNumber();
+        } catch (Exception e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
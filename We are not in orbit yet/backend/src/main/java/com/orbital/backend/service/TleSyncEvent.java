@@ -0,0 +1,12 @@
+package com.orbital.backend.service;
+
+import java.util.List;
+
+import com.orbital.backend.model.TleHistory;
+
+// Published once per sync with only the TLE versions that were new in it
+public record TleSyncEvent(List<Change> changes) {
+
+    // Name and type are not versioned; they come from the catalog row the version was read for
+    public record Change(TleHistory version, String name, String type) {}
+}
@@ -0,0 +1,63 @@
+package com.orbital.backend.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD screening over the structure-of-arrays buffers (needs --add-modules jdk.incubator.vector)
+public class VectorScreeningKernel implements ScreeningKernel {
+
+    // Widest shape the CPU supports: 4 doubles with AVX2, 8 only with AVX-512
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int screen(EphemerisBuffer states, int count, double[] primary, double minDistanceSq, double maxDistanceSq,
+                      int[] hits, double[] distanceSq, double[] rangeRate) {
+        DoubleVector px = DoubleVector.broadcast(SPECIES, primary[0]);
+        DoubleVector py = DoubleVector.broadcast(SPECIES, primary[1]);
+        DoubleVector pz = DoubleVector.broadcast(SPECIES, primary[2]);
+        DoubleVector pvx = DoubleVector.broadcast(SPECIES, primary[3]);
+        DoubleVector pvy = DoubleVector.broadcast(SPECIES, primary[4]);
+        DoubleVector pvz = DoubleVector.broadcast(SPECIES, primary[5]);
+
+        int n = 0;
+        int i = 0;
+        int upper = SPECIES.loopBound(count);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, states.x, i).sub(px);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, states.y, i).sub(py);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, states.z, i).sub(pz);
+            DoubleVector d2 = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+
+            // NaN (invalid) lanes fail both comparisons
+            VectorMask<Double> close = d2.compare(VectorOperators.LE, maxDistanceSq)
+                    .and(d2.compare(VectorOperators.GT, minDistanceSq));
+            if (!close.anyTrue()) continue;
+
+            DoubleVector rv = dx.mul(DoubleVector.fromArray(SPECIES, states.vx, i).sub(pvx))
+                    .add(dy.mul(DoubleVector.fromArray(SPECIES, states.vy, i).sub(pvy)))
+                    .add(dz.mul(DoubleVector.fromArray(SPECIES, states.vz, i).sub(pvz)));
+
+            // Hits are rare, so lanes are extracted one by one only for the matching bits
+            long bits = close.toLong();
+            while (bits != 0) {
+                int lane = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                double laneD2 = d2.lane(lane);
+                hits[n] = i + lane;
+                distanceSq[n] = laneD2;
+                rangeRate[n] = rv.lane(lane) / Math.sqrt(laneD2);
+                n++;
+            }
+        }
+
+        return ScalarScreeningKernel.screenRange(states, i, count, primary, minDistanceSq, maxDistanceSq,
+                hits, distanceSq, rangeRate, n);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+}
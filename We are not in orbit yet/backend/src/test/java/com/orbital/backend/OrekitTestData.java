@@ -0,0 +1,30 @@
+package com.orbital.backend;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.orbital.backend.config.OrekitConfig;
+
+// Loads the pinned test dataset into the default Orekit data context, once per JVM
+public final class OrekitTestData {
+
+	public static final String FROZEN_LOCATION = "classpath:orekit-data-frozen.zip";
+
+	private static boolean loaded;
+
+	private OrekitTestData() {
+	}
+
+	public static synchronized void load() {
+		if (loaded) return;
+		frozenConfig(FROZEN_LOCATION, false).init();
+		loaded = true;
+	}
+
+	public static OrekitConfig frozenConfig(String location, boolean warmup) {
+		OrekitConfig config = new OrekitConfig();
+		ReflectionTestUtils.setField(config, "dataLocation", location);
+		ReflectionTestUtils.setField(config, "frozen", true);
+		ReflectionTestUtils.setField(config, "warmup", warmup);
+		return config;
+	}
+}
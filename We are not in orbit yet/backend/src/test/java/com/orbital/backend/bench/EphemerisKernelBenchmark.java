@@ -0,0 +1,78 @@
+package com.orbital.backend.bench;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+import com.orbital.backend.OrekitTestData;
+import com.orbital.backend.service.CatalogSnapshot;
+import com.orbital.backend.service.EphemerisBuffer;
+import com.orbital.backend.service.EphemerisKernel;
+
+/*
+ * One EphemerisKernel step over a synthetic catalog, i.e. the inner loop of a screening pass.
+ *
+ *   mvn -Pbench test-compile exec:exec -Dbench="EphemerisKernelBenchmark -prof gc"
+ *
+ * gc.alloc.rate.norm divided by the objects param is the garbage left per object-step,
+ * which is Orekit's SGP4 output rather than anything the kernel itself creates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EphemerisKernelBenchmark {
+
+	private static final int STEPS = 144;
+
+	@Param({"1000", "10000"})
+	int objects;
+
+	@Param({"false", "true"})
+	boolean geodetic;
+
+	private final EphemerisKernel kernel = new EphemerisKernel();
+	private TLEPropagator[] propagators;
+	private EphemerisBuffer buffer;
+	private AbsoluteDate[] dates;
+	private int step;
+
+	@Setup
+	public void setUp() {
+		OrekitTestData.load();
+		CatalogSnapshot catalog = SyntheticCatalog.build(objects, 42);
+		propagators = kernel.createPropagators(catalog);
+		buffer = new EphemerisBuffer(objects);
+
+		// Dates are built up front so the measured loop only contains the kernel
+		AbsoluteDate start = new AbsoluteDate(Date.from(SyntheticCatalog.EPOCH), TimeScalesFactory.getUTC());
+		dates = new AbsoluteDate[STEPS];
+		for (int i = 0; i < STEPS; i++) {
+			dates[i] = start.shiftedBy(i * 600.0);
+		}
+	}
+
+	@Benchmark
+	public EphemerisBuffer propagateStep() {
+		AbsoluteDate date = dates[step];
+		step = (step + 1) % STEPS;
+		kernel.propagate(propagators, date, buffer, geodetic);
+		return buffer;
+	}
+}
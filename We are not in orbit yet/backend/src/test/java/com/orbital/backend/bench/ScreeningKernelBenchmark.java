@@ -0,0 +1,92 @@
+package com.orbital.backend.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.orbital.backend.config.ScreeningConfig;
+import com.orbital.backend.service.EphemerisBuffer;
+import com.orbital.backend.service.ScreeningKernel;
+
+/*
+ * One screening slice: the primary against every object of a propagated step.
+ *
+ *   mvn -Pbench test-compile exec:exec -Dbench="ScreeningKernelBenchmark"
+ *
+ * The vector kernel's name in the setup log gives the lane count actually used
+ * (4 doubles on AVX2, 8 on AVX-512), which has to be quoted alongside any result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScreeningKernelBenchmark {
+
+	private static final double MIN_SQ = 100.0 * 100.0;
+	private static final double MAX_SQ = 50_000.0 * 50_000.0;
+
+	@Param({"scalar", "vector"})
+	String kernelName;
+
+	@Param({"1000", "30000"})
+	int objects;
+
+	private ScreeningKernel kernel;
+	private EphemerisBuffer states;
+	private double[] primary;
+	private int[] hits;
+	private double[] distanceSq;
+	private double[] rangeRate;
+
+	@Setup
+	public void setUp() {
+		kernel = new ScreeningConfig().screeningKernel("vector".equals(kernelName));
+		if (!kernel.name().startsWith(kernelName)) {
+			throw new IllegalStateException("Requested " + kernelName + " kernel but got " + kernel.name());
+		}
+
+		// LEO shell around the primary with ~1% invalid slots, like a real catalog step
+		Random random = new Random(42);
+		states = new EphemerisBuffer(objects);
+		for (int i = 0; i < objects; i++) {
+			if (random.nextDouble() < 0.01) {
+				states.x[i] = Double.NaN;
+				states.y[i] = Double.NaN;
+				states.z[i] = Double.NaN;
+				continue;
+			}
+			double r = 6_578_000.0 + random.nextDouble() * 1_500_000.0;
+			double theta = random.nextDouble() * 2 * Math.PI;
+			double phi = Math.acos(2 * random.nextDouble() - 1);
+			states.x[i] = r * Math.sin(phi) * Math.cos(theta);
+			states.y[i] = r * Math.sin(phi) * Math.sin(theta);
+			states.z[i] = r * Math.cos(phi);
+			states.vx[i] = random.nextGaussian() * 7_000.0;
+			states.vy[i] = random.nextGaussian() * 7_000.0;
+			states.vz[i] = random.nextGaussian() * 7_000.0;
+			states.valid[i] = true;
+		}
+		primary = new double[] {6_778_000.0, 0.0, 0.0, 0.0, 7_660.0, 0.0};
+		hits = new int[objects];
+		distanceSq = new double[objects];
+		rangeRate = new double[objects];
+	}
+
+	@Benchmark
+	public int screen() {
+		return kernel.screen(states, objects, primary, MIN_SQ, MAX_SQ, hits, distanceSq, rangeRate);
+	}
+}
@@ -0,0 +1,87 @@
+package com.orbital.backend.bench;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import com.orbital.backend.model.Satellite;
+import com.orbital.backend.service.CatalogSnapshot;
+
+// Seeded LEO/MEO/GEO catalog with valid TLE checksums, same layout as perf/StubCelestrak
+public final class SyntheticCatalog {
+
+	public static final Instant EPOCH = Instant.parse("2024-01-10T00:00:00Z");
+
+	private static final double MU = 398600.4418; // km^3/s^2
+	private static final double EARTH_RADIUS_KM = 6378.137;
+
+	private SyntheticCatalog() {
+	}
+
+	public static CatalogSnapshot build(int count, long seed) {
+		Random random = new Random(seed);
+		List<Satellite> satellites = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			double shell = random.nextDouble();
+			double meanMotion;
+			double inclination;
+			if (shell < 0.85) {
+				meanMotion = revsPerDay(500 + random.nextDouble() * 700);
+				inclination = random.nextBoolean() ? 53.0 + random.nextGaussian() : 97.5 + random.nextGaussian() * 0.5;
+			} else if (shell < 0.95) {
+				meanMotion = revsPerDay(19000 + random.nextDouble() * 4000);
+				inclination = 55.0 + random.nextGaussian();
+			} else {
+				meanMotion = 1.0027;
+				inclination = Math.abs(random.nextGaussian() * 0.1);
+			}
+
+			int noradId = 30000 + i;
+			Satellite sat = new Satellite();
+			sat.setId((long) i + 1);
+			sat.setNoradId(noradId);
+			sat.setName(String.format(Locale.ROOT, "SYNTH SAT-%05d", i));
+			sat.setType("SATELLITE");
+			sat.setLine1(line1(noradId, EPOCH));
+			sat.setLine2(line2(noradId, Math.min(179.9, Math.max(0.0, inclination)), random.nextDouble() * 360.0,
+					0.0001 + random.nextDouble() * 0.002, random.nextDouble() * 360.0, random.nextDouble() * 360.0,
+					meanMotion));
+			satellites.add(sat);
+		}
+		return CatalogSnapshot.build(1, satellites);
+	}
+
+	private static String line1(int noradId, Instant epoch) {
+		ZonedDateTime utc = epoch.atZone(ZoneOffset.UTC);
+		double dayOfYear = utc.getDayOfYear() + utc.toLocalTime().toSecondOfDay() / 86400.0;
+		String line = String.format(Locale.ROOT, "1 %05dU 24%03dA   %02d%012.8f  .00001000  00000-0  50000-4 0  999",
+				noradId, noradId % 1000, utc.getYear() % 100, dayOfYear);
+		return line + checksum(line);
+	}
+
+	private static String line2(int noradId, double inclination, double raan, double eccentricity, double argPerigee,
+								double meanAnomaly, double meanMotion) {
+		String line = String.format(Locale.ROOT, "2 %05d %8.4f %8.4f %07d %8.4f %8.4f %11.8f%5d",
+				noradId, inclination, raan % 360.0, Math.round(eccentricity * 1e7), argPerigee % 360.0,
+				meanAnomaly % 360.0, meanMotion, 1000);
+		return line + checksum(line);
+	}
+
+	private static double revsPerDay(double altitudeKm) {
+		double a = EARTH_RADIUS_KM + altitudeKm;
+		return 86400.0 / (2 * Math.PI * Math.sqrt(a * a * a / MU));
+	}
+
+	private static int checksum(String line) {
+		int sum = 0;
+		for (char c : line.toCharArray()) {
+			if (Character.isDigit(c)) sum += c - '0';
+			else if (c == '-') sum += 1;
+		}
+		return sum % 10;
+	}
+}
@@ -0,0 +1,45 @@
+package com.orbital.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+import com.orbital.backend.OrekitTestData;
+
+class OrekitConfigTest {
+
+	@Test
+	void frozenDatasetLoadsAndWarmsUpBeforeInitReturns() {
+		OrekitConfig config = OrekitTestData.frozenConfig(OrekitTestData.FROZEN_LOCATION, true);
+		config.init();
+
+		// Warm-up is synchronous, so the probe is green as soon as the bean exists
+		assertTrue(config.isReady());
+		Map<String, Object> status = config.getStatus();
+		assertFalse(status.containsKey("error"));
+		assertTrue(((Map<?, ?>) status.get("timingsMs")).containsKey("itrf"));
+
+		// Leap-second table from the pinned dataset: TAI - UTC = 37 s since 2017
+		AbsoluteDate date = new AbsoluteDate(2020, 1, 1, TimeScalesFactory.getTAI());
+		assertEquals(-37.0, TimeScalesFactory.getUTC().offsetFromTAI(date), 1e-9);
+	}
+
+	@Test
+	void frozenModeRequiresALocation() {
+		OrekitConfig config = OrekitTestData.frozenConfig("", true);
+		assertThrows(IllegalStateException.class, config::init);
+	}
+
+	@Test
+	void frozenModeFailsOnMissingResource() {
+		OrekitConfig config = OrekitTestData.frozenConfig("classpath:no-such-orekit-data.zip", true);
+		assertThrows(IllegalStateException.class, config::init);
+	}
+}
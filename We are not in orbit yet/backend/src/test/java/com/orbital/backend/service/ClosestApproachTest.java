@@ -0,0 +1,70 @@
+package com.orbital.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ClosestApproachTest {
+
+	private static final double DT = 600.0;
+
+	// Crosses 10 km from the primary at 12 km/s: 3600 km away at both samples, closest at t = 300 s
+	private static final double[] HEAD_ON = {
+			-3_600_000.0, 10_000.0, 0.0, 12_000.0, 0.0, 0.0,
+			3_600_000.0, 10_000.0, 0.0, 12_000.0, 0.0, 0.0};
+
+	@Test
+	void findsCrossingBetweenSamples() {
+		double[] tca = new double[1];
+
+		assertTrue(ClosestApproach.passesThrough(HEAD_ON));
+		assertTrue(ClosestApproach.lowerBound(HEAD_ON, DT) <= 10_000.0);
+		assertEquals(10_000.0, Math.sqrt(ClosestApproach.minimumSq(HEAD_ON, DT, tca)), 1e-3);
+		assertEquals(300.0, tca[0], 1e-3);
+	}
+
+	@Test
+	void followsCurvedRelativeMotion() {
+		// Relative motion on a circle of radius 1000 km around a point 1050 km away; closest 50 km at t = 300 s
+		double radius = 1_000_000.0;
+		double omega = 2 * Math.PI / 7_200.0;
+		double[] rel = new double[12];
+		fillCircle(rel, 0, radius, omega, -300.0);
+		fillCircle(rel, 6, radius, omega, 300.0);
+		double[] tca = new double[1];
+
+		double miss = Math.sqrt(ClosestApproach.minimumSq(rel, DT, tca));
+		assertEquals(50_000.0, miss, 500.0);
+		assertEquals(300.0, tca[0], 5.0);
+		assertTrue(ClosestApproach.lowerBound(rel, DT) <= miss);
+	}
+
+	@Test
+	void openingOrClosingThroughoutIsNotAPassage() {
+		double[] receding = {
+				10_000.0, 0.0, 0.0, 1_000.0, 0.0, 0.0,
+				610_000.0, 0.0, 0.0, 1_000.0, 0.0, 0.0};
+		assertFalse(ClosestApproach.passesThrough(receding));
+	}
+
+	@Test
+	void lowerBoundRulesOutDistantPasses() {
+		double[] distant = HEAD_ON.clone();
+		distant[1] = 2_000_000.0;
+		distant[7] = 2_000_000.0;
+		assertTrue(ClosestApproach.lowerBound(distant, DT) > 1_000_000.0);
+	}
+
+	// Relative position at angle omega * t on a circle centred 1050 km out along x, so x = 50 km at t = 0
+	private static void fillCircle(double[] rel, int offset, double radius, double omega, double t) {
+		double angle = omega * t;
+		rel[offset] = radius + 50_000.0 - radius * Math.cos(angle);
+		rel[offset + 1] = radius * Math.sin(angle);
+		rel[offset + 2] = 0.0;
+		rel[offset + 3] = -radius * omega * -Math.sin(angle);
+		rel[offset + 4] = radius * omega * Math.cos(angle);
+		rel[offset + 5] = 0.0;
+	}
+}
@@ -0,0 +1,135 @@
+package com.orbital.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.orbital.backend.OrekitTestData;
+import com.orbital.backend.model.TleHistory;
+
+class DecayWatchServiceTest {
+
+	// 16.00 rev/day, e = 0.0005, ndot/2 = 0.0005 rev/day^2, epoch 2024-01-10T00:00Z
+	private static final String LOW_1 = "1 90001U 24001A   24010.00000000  .00050000  00000-0  10000-3 0  9993";
+	private static final String LOW_2 = "2 90001  51.6400 120.0000 0005000  90.0000   0.0000 16.00000000 10003";
+
+	// Same object two days later at 16.01 rev/day
+	private static final String LOW_NEXT_1 = "1 90001U 24001A   24012.00000000  .00050000  00000-0  10000-3 0  9995";
+	private static final String LOW_NEXT_2 = "2 90001  51.6400 120.0000 0005000  90.0000   0.0000 16.01000000 10004";
+
+	// 15.20 rev/day, e = 0.001, barely decaying
+	private static final String HIGH_1 = "1 90002U 24001A   24010.00000000  .00001000  00000-0  10000-3 0  9990";
+	private static final String HIGH_2 = "2 90002  51.6400 120.0000 0010000  90.0000   0.0000 15.20000000 10001";
+
+	private DecayWatchService service;
+
+	@BeforeAll
+	static void loadOrekitData() {
+		OrekitTestData.load();
+	}
+
+	@BeforeEach
+	void setUp() {
+		service = new DecayWatchService(null);
+		ReflectionTestUtils.setField(service, "perigeeThresholdKm", 300.0);
+		ReflectionTestUtils.setField(service, "reentryAltitudeKm", 120.0);
+		ReflectionTestUtils.setField(service, "windowFraction", 0.25);
+	}
+
+	@Test
+	void perigeeApogeeAndDragRateFromMeanMotion() {
+		sync(version(90001, LOW_1, LOW_2));
+
+		// a = (mu / n^2)^(1/3) with WGS84 mu and equatorial radius; da/dt = -2/3 a ndot / n
+		Map<String, Object> state = service.getState(90001);
+		assertEquals(271.1, (Double) state.get("perigeeKm"), 1e-9);
+		assertEquals(277.7, (Double) state.get("apogeeKm"), 1e-9);
+		assertEquals(-0.277, (Double) state.get("perigeeRateKmPerDay"), 1e-9);
+		assertEquals(Boolean.TRUE, state.get("belowThreshold"));
+
+		// (271.092 - 120) km at 0.27719 km/day = 545.09 days, window +/- 25 %
+		Instant epoch = Instant.parse("2024-01-10T00:00:00Z");
+		assertNear(epoch.plus(days(545.0864790)), state.get("reentryEstimate"));
+		assertNear(epoch.plus(days(545.0864790 * 0.75)), state.get("reentryWindowStart"));
+		assertNear(epoch.plus(days(545.0864790 * 1.25)), state.get("reentryWindowEnd"));
+	}
+
+	@Test
+	void observedTrendIsBlendedWithPreviousRate() {
+		sync(version(90001, LOW_1, LOW_2));
+		sync(version(90001, LOW_NEXT_1, LOW_NEXT_2));
+
+		// Observed (268.323 - 271.092) / 2 days = -1.38454; blended 50/50 with -0.27719 -> -0.83086
+		Map<String, Object> state = service.getState(90001);
+		assertEquals(268.3, (Double) state.get("perigeeKm"), 1e-9);
+		assertEquals(-0.831, (Double) state.get("perigeeRateKmPerDay"), 1e-9);
+		assertNear(Instant.parse("2024-01-12T00:00:00Z").plus(days(178.5173426)), state.get("reentryEstimate"));
+	}
+
+	@Test
+	void olderEpochDoesNotReplaceNewerState() {
+		sync(version(90001, LOW_NEXT_1, LOW_NEXT_2));
+		sync(version(90001, LOW_1, LOW_2));
+
+		assertEquals("2024-01-12T00:00:00Z", service.getState(90001).get("epoch"));
+	}
+
+	@Test
+	void thresholdAndOrdering() {
+		sync(version(90002, HIGH_1, HIGH_2), version(90001, LOW_1, LOW_2));
+
+		assertEquals(1, service.countBelowThreshold());
+		assertFalse((Boolean) service.getState(90002).get("belowThreshold"));
+
+		List<Map<String, Object>> lowest = service.getLowestPerigee(10);
+		assertEquals(90001, lowest.get(0).get("noradId"));
+		assertEquals(90002, lowest.get(1).get("noradId"));
+
+		// 499 km perigee at 0.006 km/day still gets an estimate, just a far one
+		List<Map<String, Object>> soonest = service.getSoonestReentry(10);
+		assertEquals(90001, soonest.get(0).get("noradId"));
+		assertEquals(2, soonest.size());
+	}
+
+	@Test
+	void nonDecayingObjectHasNoReentryEstimate() {
+		String line1 = "1 90003U 24001A   24010.00000000 -.00001000  00000-0  10000-3 0  9992";
+		String line2 = "2 90003  51.6400 120.0000 0010000  90.0000   0.0000 15.20000000 10002";
+		sync(version(90003, line1, line2));
+
+		assertNull(service.getState(90003).get("reentryEstimate"));
+		assertTrue(service.getSoonestReentry(10).isEmpty());
+	}
+
+	private void sync(TleSyncEvent.Change... changes) {
+		service.onTleSync(new TleSyncEvent(List.of(changes)));
+	}
+
+	private static TleSyncEvent.Change version(int noradId, String line1, String line2) {
+		TleHistory version = new TleHistory();
+		version.setNoradId(noradId);
+		version.setLine1(line1);
+		version.setLine2(line2);
+		return new TleSyncEvent.Change(version, "TEST " + noradId, "DEBRIS");
+	}
+
+	private static Duration days(double days) {
+		return Duration.ofSeconds((long) (days * 86400.0));
+	}
+
+	private static void assertNear(Instant expected, Object actual) {
+		long diff = Math.abs(Duration.between(expected, Instant.parse((String) actual)).toSeconds());
+		assertTrue(diff <= 60, "expected " + expected + " but was " + actual);
+	}
+}
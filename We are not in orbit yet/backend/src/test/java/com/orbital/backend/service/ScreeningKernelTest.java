@@ -0,0 +1,155 @@
+package com.orbital.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.orbital.backend.config.ScreeningConfig;
+
+// The vector kernel must report exactly what the scalar loop reports, lane batches and tail alike
+class ScreeningKernelTest {
+
+	private static final double MIN_SQ = 100.0 * 100.0;
+	private static final double MAX_SQ = 50_000.0 * 50_000.0;
+	private static final double[] PRIMARY = {6_778_000.0, 0.0, 0.0, 0.0, 7_660.0, 0.0};
+
+	private static ScreeningKernel vector;
+	private final ScreeningKernel scalar = new ScalarScreeningKernel();
+
+	@BeforeAll
+	static void loadVectorKernel() {
+		vector = new ScreeningConfig().screeningKernel(true);
+	}
+
+	@Test
+	void scalarKernelHonoursTheDistanceBand() {
+		EphemerisBuffer states = new EphemerisBuffer(4);
+		place(states, 0, 50_000.0);  // exactly on the threshold: included
+		place(states, 1, 100.0);     // exactly on the exclusion radius: excluded
+		place(states, 2, 50_000.5);  // just outside
+		place(states, 3, 20_000.0);
+		states.vx[3] = 10.0;
+
+		Result result = run(scalar, states, 4);
+
+		assertEquals(2, result.count);
+		assertArrayEquals(new int[] {0, 3}, Arrays.copyOf(result.hits, 2));
+		assertEquals(MAX_SQ, result.distanceSq[0]);
+		assertEquals(0.0, result.rangeRate[0]);
+		assertEquals(10.0, result.rangeRate[1], 1e-12);
+	}
+
+	@Test
+	void invalidSlotsNeverMatch() {
+		EphemerisBuffer states = new EphemerisBuffer(3);
+		place(states, 0, 1_000.0);
+		place(states, 1, 1_000.0);
+		place(states, 2, 1_000.0);
+		states.valid[1] = false;
+		states.x[1] = Double.NaN;
+		states.y[1] = Double.NaN;
+		states.z[1] = Double.NaN;
+
+		assertArrayEquals(new int[] {0, 2}, Arrays.copyOf(run(scalar, states, 3).hits, 2));
+		assertEquals(2, run(scalar, states, 3).count);
+	}
+
+	@Test
+	void vectorKernelMatchesScalarIncludingTailsAndInvalidSlots() {
+		assumeTrue(vector.name().startsWith("vector"), "JVM started without jdk.incubator.vector");
+
+		Random random = new Random(7);
+		// Sizes around every lane width up to 8, so full batches, partial tails and empty loops are all covered
+		for (int count : new int[] {0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 33, 1001}) {
+			EphemerisBuffer states = randomStates(random, count);
+			Result expected = run(scalar, states, count);
+			Result actual = run(vector, states, count);
+
+			assertEquals(expected.count, actual.count, "hit count for " + count + " objects");
+			assertArrayEquals(Arrays.copyOf(expected.hits, expected.count), Arrays.copyOf(actual.hits, actual.count));
+			assertArrayEquals(Arrays.copyOf(expected.distanceSq, expected.count), Arrays.copyOf(actual.distanceSq, actual.count));
+			assertArrayEquals(Arrays.copyOf(expected.rangeRate, expected.count), Arrays.copyOf(actual.rangeRate, actual.count));
+		}
+	}
+
+	@Test
+	void vectorKernelOnlyScreensTheRequestedCount() {
+		assumeTrue(vector.name().startsWith("vector"), "JVM started without jdk.incubator.vector");
+
+		// Every slot is a hit, but only the first five are in range
+		EphemerisBuffer states = new EphemerisBuffer(16);
+		for (int i = 0; i < 16; i++) {
+			place(states, i, 1_000.0 + i);
+		}
+		Result result = run(vector, states, 5);
+
+		assertEquals(5, result.count);
+		assertArrayEquals(new int[] {0, 1, 2, 3, 4}, Arrays.copyOf(result.hits, 5));
+	}
+
+	// Mostly far objects, a share inside the band, some on its edges and some invalid
+	private static EphemerisBuffer randomStates(Random random, int count) {
+		EphemerisBuffer states = new EphemerisBuffer(count);
+		for (int i = 0; i < count; i++) {
+			double roll = random.nextDouble();
+			if (roll < 0.15) {
+				states.valid[i] = false;
+				states.x[i] = Double.NaN;
+				states.y[i] = Double.NaN;
+				states.z[i] = Double.NaN;
+				continue;
+			}
+			double offset;
+			if (roll < 0.2) offset = 50_000.0;
+			else if (roll < 0.25) offset = 100.0;
+			else if (roll < 0.5) offset = random.nextDouble() * 60_000.0;
+			else offset = 60_000.0 + random.nextDouble() * 5_000_000.0;
+
+			double theta = random.nextDouble() * 2 * Math.PI;
+			double phi = Math.acos(2 * random.nextDouble() - 1);
+			states.x[i] = PRIMARY[0] + offset * Math.sin(phi) * Math.cos(theta);
+			states.y[i] = PRIMARY[1] + offset * Math.sin(phi) * Math.sin(theta);
+			states.z[i] = PRIMARY[2] + offset * Math.cos(phi);
+			states.vx[i] = random.nextGaussian() * 7_000.0;
+			states.vy[i] = random.nextGaussian() * 7_000.0;
+			states.vz[i] = random.nextGaussian() * 7_000.0;
+			states.valid[i] = true;
+		}
+		return states;
+	}
+
+	private static void place(EphemerisBuffer states, int i, double offsetX) {
+		states.x[i] = PRIMARY[0] + offsetX;
+		states.y[i] = PRIMARY[1];
+		states.z[i] = PRIMARY[2];
+		states.vx[i] = PRIMARY[3];
+		states.vy[i] = PRIMARY[4];
+		states.vz[i] = PRIMARY[5];
+		states.valid[i] = true;
+	}
+
+	private static Result run(ScreeningKernel kernel, EphemerisBuffer states, int count) {
+		Result result = new Result(count);
+		result.count = kernel.screen(states, count, PRIMARY, MIN_SQ, MAX_SQ, result.hits, result.distanceSq, result.rangeRate);
+		return result;
+	}
+
+	private static final class Result {
+		final int[] hits;
+		final double[] distanceSq;
+		final double[] rangeRate;
+		int count;
+
+		Result(int capacity) {
+			hits = new int[capacity];
+			distanceSq = new double[capacity];
+			rangeRate = new double[capacity];
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.orbital.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class SnapshotCacheTest {
+
+	private static final long QUANTUM_MS = 10_000;
+	private static final long T0 = 1_700_000_000_000L;
+
+	private final SnapshotCache cache = new SnapshotCache();
+
+	@Test
+	void concurrentCallersShareOneComputationWithoutHoldingThreads() throws Exception {
+		int callers = 8;
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger admitted = new AtomicInteger();
+		AtomicInteger computations = new AtomicInteger();
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Function<Supplier<String>, CompletableFuture<String>> admission = task -> {
+				admitted.incrementAndGet();
+				return CompletableFuture.supplyAsync(task, pool);
+			};
+
+			// Every call returns straight away while the one computation is still blocked
+			List<CompletableFuture<SnapshotCache.Snapshot<String>>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(cache.get("positions", QUANTUM_MS, 1, admission, at -> {
+					computations.incrementAndGet();
+					await(release);
+					return "value-" + at;
+				}, T0));
+			}
+			assertTrue(results.stream().noneMatch(CompletableFuture::isDone));
+			assertEquals(1, admitted.get());
+
+			release.countDown();
+			SnapshotCache.Snapshot<String> first = results.get(0).get(5, TimeUnit.SECONDS);
+			for (CompletableFuture<SnapshotCache.Snapshot<String>> result : results) {
+				assertSame(first, result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, computations.get());
+			assertEquals(1L, stat("positions", "computed"));
+			assertEquals(callers - 1L, stat("positions", "coalesced"));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void failedComputationIsNotCached() {
+		CompletableFuture<SnapshotCache.Snapshot<String>> failed = cache.get("warnings", QUANTUM_MS, 1, SnapshotCacheTest::inline,
+				at -> {
+					throw new IllegalStateException("boom");
+				}, T0);
+		ExecutionException error = assertThrows(ExecutionException.class, failed::get);
+		assertTrue(error.getCause() instanceof IllegalStateException);
+
+		assertEquals("ok", value(cache.get("warnings", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> "ok", T0)));
+	}
+
+	@Test
+	void rejectedAdmissionIsNotCached() {
+		OverloadedException rejection = new OverloadedException("full", HttpStatus.SERVICE_UNAVAILABLE, 5);
+		assertThrows(OverloadedException.class, () -> cache.<String>get("warnings", QUANTUM_MS, 1, task -> {
+			throw rejection;
+		}, at -> "never", T0));
+
+		assertEquals("ok", value(cache.get("warnings", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> "ok", T0)));
+	}
+
+	@Test
+	void lateRequestForOlderQuantumKeepsNewerEntry() {
+		AtomicInteger computations = new AtomicInteger();
+		value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> computations.incrementAndGet(), T0 + QUANTUM_MS));
+		value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> computations.incrementAndGet(), T0));
+		SnapshotCache.Snapshot<Integer> current =
+				value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> computations.incrementAndGet(), T0 + QUANTUM_MS));
+
+		assertEquals(2, computations.get());
+		assertEquals(1, current.value());
+		assertEquals(1L, stat("positions", "hits"));
+	}
+
+	@Test
+	void keepsAtMostFourQuantaPerName() {
+		for (int q = 0; q < 10; q++) {
+			value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> at, T0 + q * QUANTUM_MS));
+		}
+		assertEquals(SnapshotCache.MAX_QUANTA_PER_NAME, stat("positions", "cachedQuanta"));
+
+		// The oldest quanta went first
+		AtomicInteger computations = new AtomicInteger();
+		value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> computations.incrementAndGet(), T0 + 9 * QUANTUM_MS));
+		value(cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> computations.incrementAndGet(), T0));
+		assertEquals(1, computations.get());
+	}
+
+	@Test
+	void catalogVersionIsPartOfTheKey() {
+		SnapshotCache.Snapshot<String> v1 = cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> "v1", T0).join();
+		SnapshotCache.Snapshot<String> v2 = cache.get("positions", QUANTUM_MS, 2, SnapshotCacheTest::inline, at -> "v2", T0).join();
+
+		assertEquals("v2", v2.value());
+		assertFalse(v1.etag().equals(v2.etag()));
+	}
+
+	@Test
+	void ifNoneMatchUsesWeakComparisonAndLists() {
+		SnapshotCache.Snapshot<String> snapshot = cache.get("positions", QUANTUM_MS, 3, SnapshotCacheTest::inline, at -> "body", T0).join();
+		String etag = snapshot.etag();
+
+		assertTrue(snapshot.matches(etag));
+		assertTrue(snapshot.matches("W/" + etag));
+		assertTrue(snapshot.matches("\"other\", W/" + etag));
+		assertTrue(snapshot.matches("\"other\",  " + etag + " "));
+		assertTrue(snapshot.matches("*"));
+		assertFalse(snapshot.matches(null));
+		assertFalse(snapshot.matches(""));
+		assertFalse(snapshot.matches("\"other\", W/\"positions-2-" + T0 + "\""));
+		assertFalse(snapshot.matches(etag.substring(1, etag.length() - 1)));
+	}
+
+	@Test
+	void matchingEtagGetsBodiless304() {
+		SnapshotCache.Snapshot<String> snapshot = cache.get("positions", QUANTUM_MS, 1, SnapshotCacheTest::inline, at -> "body", T0).join();
+
+		ResponseEntity<String> notModified = snapshot.toResponse("W/" + snapshot.etag());
+		assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+		assertNull(notModified.getBody());
+		assertEquals(snapshot.etag(), notModified.getHeaders().getETag());
+
+		ResponseEntity<String> fresh = snapshot.toResponse("\"stale\"");
+		assertEquals(HttpStatus.OK, fresh.getStatusCode());
+		assertEquals("body", fresh.getBody());
+		assertEquals(snapshot.etag(), fresh.getHeaders().getETag());
+		assertTrue(fresh.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL).contains("private"));
+	}
+
+	// Runs the task on the calling thread, as if admitted immediately
+	private static <T> CompletableFuture<T> inline(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, Runnable::run);
+	}
+
+	private static <T> T value(CompletableFuture<SnapshotCache.Snapshot<T>> future) {
+		return future.join().value();
+	}
+
+	private long stat(String name, String field) {
+		@SuppressWarnings("unchecked")
+		Map<String, Object> entry = (Map<String, Object>) cache.getStats().get(name);
+		return entry == null ? 0 : ((Number) entry.get(field)).longValue();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}